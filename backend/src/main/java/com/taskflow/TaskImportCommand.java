@@ -0,0 +1,58 @@
+package com.taskflow;
+
+import com.taskflow.dto.TaskDto;
+import com.taskflow.service.TaskFileFormat;
+import com.taskflow.service.TaskImportService;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Imports a CSV or NDJSON file of tasks into a project without starting the web server, using the
+ * same datasource configuration as the application. Rejected rows are printed to stderr.
+ * <pre>
+ * java -cp app.jar -Dloader.main=com.taskflow.TaskImportCommand \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher &lt;projectId&gt; &lt;file.csv|file.ndjson&gt;
+ * </pre>
+ */
+public class TaskImportCommand {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Usage: TaskImportCommand <projectId> <file.csv|file.ndjson>");
+            System.exit(2);
+        }
+        Long projectId = Long.valueOf(args[0]);
+        Path file = Path.of(args[1]);
+        String fileName = file.getFileName().toString();
+        TaskFileFormat format = TaskFileFormat.fromParameter(fileName.substring(fileName.lastIndexOf('.') + 1));
+
+        TaskDto.ImportResult result;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskFlowApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run();
+             InputStream in = Files.newInputStream(file)) {
+            result = context.getBean(TaskImportService.class).importTasks(projectId, format, in,
+                    new TaskImportService.ImportListener() {
+                        @Override
+                        public void onProgress(long rowsRead) {
+                            System.out.println("Read " + rowsRead + " rows");
+                        }
+
+                        @Override
+                        public void onRejected(TaskDto.ImportError error) {
+                            System.err.println("Row " + error.getRow() + ": " + error.getMessage());
+                        }
+                    });
+        }
+        System.out.printf("Imported %d tasks, rejected %d, in %d ms (%d rows/s)%n",
+                result.getImported(), result.getRejected(), result.getElapsedMillis(), result.getRowsPerSecond());
+        System.exit(result.getRejected() == 0 ? 0 : 1);
+    }
+}
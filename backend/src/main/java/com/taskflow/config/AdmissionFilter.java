@@ -0,0 +1,80 @@
+package com.taskflow.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.exception.GlobalExceptionHandler;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many requests are handled at once. On virtual threads Tomcat's thread pool no longer
+ * bounds concurrency, so under load every request would start and then wait in Hikari's queue for a
+ * connection, holding its memory until {@code connectionTimeout} fails it. Here excess requests
+ * wait up to {@code maxWait} for a permit before anything runs, including the user lookup in
+ * {@code JwtAuthFilter}. After that they get {@code 503} with {@code Retry-After}.
+ *
+ * <p>A permit is held only for the request's first dispatch: event streams and streamed exports
+ * continue asynchronously without one.
+ */
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final ObjectMapper objectMapper;
+
+    public AdmissionFilter(int maxConcurrentRequests, Duration maxWait, ObjectMapper objectMapper) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!acquire()) {
+            reject(response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new GlobalExceptionHandler.ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(), "The server is busy; retry shortly", LocalDateTime.now()));
+    }
+}
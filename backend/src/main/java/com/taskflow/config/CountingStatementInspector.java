@@ -0,0 +1,16 @@
+package com.taskflow.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Reports every statement Hibernate prepares to {@link StatementRecorder}, unchanged. Registered
+ * with {@code hibernate.session_factory.statement_inspector}, so it also applies in JPA slice tests.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementRecorder.record(sql);
+        return sql;
+    }
+}
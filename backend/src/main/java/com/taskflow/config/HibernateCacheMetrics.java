@@ -0,0 +1,42 @@
+package com.taskflow.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes {@code hibernate.second.level.cache.hit.ratio} per cache region. Hit, miss and put
+ * counters per region already come from Spring Boot's Hibernate metrics; the ratio saves every
+ * dashboard from deriving it.
+ */
+@Component
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics, stats -> hitRatio(stats, region))
+                    .tag("region", region)
+                    .description("Share of second-level cache lookups answered from the cache")
+                    .register(registry);
+        }
+    }
+
+    static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        long hits = regionStatistics.getHitCount();
+        long lookups = hits + regionStatistics.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskflow.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes {@link LocalDateTime} exactly as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} does
+ * ({@code 2024-03-01T09:30:00}, with the fraction of a second only when there is one, trailing
+ * zeros dropped), but digit by digit into a small buffer instead of through the formatter, which
+ * resolves every field through {@code TemporalAccessor} and builds an intermediate string. Every
+ * task and project response carries two of these. Years outside 0-9999 go through the formatter.
+ *
+ * <p>Ignores {@code @JsonFormat}; the response DTOs do not use it.
+ */
+public class IsoLocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+    private static final int MAX_LENGTH = 29;
+
+    public IsoLocalDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            generator.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        digits(buffer, 0, year / 100);
+        digits(buffer, 2, year % 100);
+        buffer[4] = '-';
+        digits(buffer, 5, value.getMonthValue());
+        buffer[7] = '-';
+        digits(buffer, 8, value.getDayOfMonth());
+        buffer[10] = 'T';
+        digits(buffer, 11, value.getHour());
+        buffer[13] = ':';
+        digits(buffer, 14, value.getMinute());
+        buffer[16] = ':';
+        digits(buffer, 17, value.getSecond());
+        int length = 19;
+
+        int nano = value.getNano();
+        if (nano > 0) {
+            buffer[length++] = '.';
+            for (int divisor = 100_000_000; nano > 0; divisor /= 10) {
+                buffer[length++] = (char) ('0' + nano / divisor);
+                nano %= divisor;
+            }
+        }
+        generator.writeString(buffer, 0, length);
+    }
+
+    private static void digits(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+}
@@ -0,0 +1,105 @@
+package com.taskflow.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.taskflow.dto.AuthDto;
+import com.taskflow.dto.ProjectDto;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.dto.UserDto;
+import com.taskflow.exception.GlobalExceptionHandler;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Tunes the {@code ObjectMapper} Spring Boot builds for request and response bodies: getters and
+ * setters are called through generated lambdas instead of reflection ({@link BlackbirdModule}),
+ * timestamps are written by {@link IsoLocalDateTimeSerializer}, and the serializers of the response
+ * DTOs are built before the server accepts requests rather than on each type's first response.
+ *
+ * <p>The same DTOs are also read and written as CBOR ({@code application/cbor}) for clients that ask
+ * for it in {@code Accept} or {@code Content-Type}. CBOR carries the JSON data model in binary, so
+ * the representation has the same field names and values as the JSON one: a field added to a DTO
+ * is ignored by older readers and read as null from older writers, exactly as in JSON.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer isoLocalDateTimeSerializer() {
+        return builder -> builder.serializerByType(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+    }
+
+    /**
+     * Replaces the CBOR converter Spring MVC registers when jackson-dataformat-cbor is present, which
+     * builds its own mapper without Spring Boot's {@code spring.jackson.*} settings and customizers.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper objectMapper = builder.factory(new CBORFactory()).build();
+        warmUp(objectMapper);
+        return new MappingJackson2CborHttpMessageConverter(objectMapper);
+    }
+
+    /**
+     * Spring Boot puts the converter above ahead of MVC's own CBOR converter but keeps that one too;
+     * drop it so no CBOR body can be read or written by the unconfigured mapper.
+     */
+    @Bean
+    public WebMvcConfigurer cborConverterReplacement(MappingJackson2CborHttpMessageConverter cborHttpMessageConverter) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                        && converter != cborHttpMessageConverter);
+            }
+        };
+    }
+
+    @Bean
+    public SmartInitializingSingleton serializerWarmUp(ObjectMapper objectMapper) {
+        return () -> warmUp(objectMapper);
+    }
+
+    /**
+     * Resolves and caches the serializers of every response type. The cache belongs to the mapper,
+     * so the writers built here are thrown away.
+     */
+    public static void warmUp(ObjectMapper objectMapper) {
+        responseTypes(objectMapper.getTypeFactory()).forEach(objectMapper::writerFor);
+    }
+
+    static List<JavaType> responseTypes(TypeFactory types) {
+        return List.of(
+                types.constructType(TaskDto.Response.class),
+                types.constructType(TaskDto.Page.class),
+                types.constructType(TaskDto.Changes.class),
+                types.constructType(TaskDto.SearchPage.class),
+                types.constructType(TaskDto.BulkResponse.class),
+                types.constructType(TaskDto.ImportResult.class),
+                types.constructType(ProjectDto.Response.class),
+                types.constructCollectionType(List.class, ProjectDto.Response.class),
+                types.constructType(UserDto.Response.class),
+                types.constructCollectionType(List.class, UserDto.Response.class),
+                types.constructType(AuthDto.AuthResponse.class),
+                types.constructType(GlobalExceptionHandler.ErrorResponse.class),
+                types.constructType(GlobalExceptionHandler.ValidationErrorResponse.class));
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskflow.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Matches requests that arrived on the port of the actuator's own server
+ * ({@code management.server.port}), which is not published with the API. The port is the one the
+ * server actually bound, so it also holds for random ports; until that server starts, nothing
+ * matches.
+ */
+@Component
+public class ManagementPort implements ApplicationListener<WebServerInitializedEvent>, RequestMatcher {
+
+    private static final String NAMESPACE = "management";
+
+    private volatile int port = -1;
+
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        if (NAMESPACE.equals(event.getApplicationContext().getServerNamespace())) {
+            port = event.getWebServer().getPort();
+        }
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return request.getLocalPort() == port;
+    }
+}
@@ -0,0 +1,42 @@
+package com.taskflow.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Times every method annotated with {@code @Timed}, tagged with its class and method. Controllers
+ * are timed as a whole with a latency histogram; services only on their entry points, so that
+ * helpers like {@code toResponse}, called per row, stay untimed. Also counts the SQL statements of
+ * every request against its budget.
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final String CONTROLLER_TIMER = "controller.requests";
+    public static final String SERVICE_TIMER = "service.operations";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Ahead of every other filter but the observation filter, so statements run while
+     * authenticating count towards the request.
+     */
+    @Bean
+    public FilterRegistrationBean<StatementBudgetFilter> statementBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${sql.statements.budget}") int budget,
+            @Value("${sql.statements.repeat-threshold}") int repeatThreshold) {
+        FilterRegistrationBean<StatementBudgetFilter> registration =
+                new FilterRegistrationBean<>(new StatementBudgetFilter(meterRegistry, budget, repeatThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
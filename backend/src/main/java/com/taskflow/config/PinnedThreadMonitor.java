@@ -0,0 +1,71 @@
+package com.taskflow.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that blocked while pinned to their carrier thread, typically inside a
+ * {@code synchronized} block. A pinned virtual thread holds its carrier, so enough of them stall
+ * every other virtual thread. The report comes from the JDK's {@code jdk.VirtualThreadPinned} Flight
+ * Recorder event, read in-process. Each pin longer than the threshold is timed as
+ * {@code jvm.threads.virtual.pinned}. Each distinct stack is logged once, at the first pin from it.
+ */
+@Slf4j
+public class PinnedThreadMonitor {
+
+    static final String EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int MAX_LOGGED_STACKS = 1000;
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Timer pinned;
+    private final Set<String> loggedStacks = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public PinnedThreadMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent blocked while pinned to their carrier")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        stream.close();
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        String stack = event.getStackTrace() == null ? "(no stack trace)" : event.getStackTrace().getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(PinnedThreadMonitor::format)
+                .collect(Collectors.joining("\n\tat ", "\tat ", ""));
+        if (loggedStacks.size() < MAX_LOGGED_STACKS && loggedStacks.add(stack)) {
+            log.warn("Virtual thread pinned for {} ms:\n{}", event.getDuration().toMillis(), stack);
+        }
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
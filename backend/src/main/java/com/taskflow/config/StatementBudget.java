@@ -0,0 +1,24 @@
+package com.taskflow.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most SQL statements a request to the annotated handler method is expected to run, in place of
+ * {@code sql.statements.budget}. Requests over budget are logged and counted by
+ * {@link StatementBudgetFilter}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    int value();
+
+    /**
+     * Whether running the same statement shape {@code sql.statements.repeat-threshold} times is
+     * expected, as it is for batched writes that fetch ids and flush once per batch.
+     */
+    boolean allowRepeats() default false;
+}
@@ -0,0 +1,108 @@
+package com.taskflow.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the SQL statements each request runs, from before authentication to the end of the
+ * response, as {@code http.server.requests.statements} per endpoint. A request is flagged when it
+ * runs more statements than its endpoint's budget ({@link StatementBudget}, or the default), or the
+ * same statement shape {@code repeatThreshold} times or more, which is how an N+1 looks, unless
+ * the endpoint allows repeats. Flagged
+ * requests are counted, and logged at the first occurrence per endpoint and cause.
+ *
+ * <p>Only the request thread is recorded: the asynchronous part of streamed responses is not.
+ */
+@Slf4j
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final int MAX_REPORTED = 1000;
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+    private final int repeatThreshold;
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+
+    public StatementBudgetFilter(MeterRegistry meterRegistry, int defaultBudget, int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        StatementRecorder.Recording recording = StatementRecorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recording.close();
+            check(request, recording);
+        }
+    }
+
+    private void check(HttpServletRequest request, StatementRecorder.Recording recording) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+        String method = request.getMethod();
+        int count = recording.count();
+        DistributionSummary.builder("http.server.requests.statements")
+                .description("SQL statements run per request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(count);
+
+        StatementBudget annotation = annotation(request);
+        int budget = annotation == null ? defaultBudget : annotation.value();
+        if (count > budget) {
+            counter("http.server.requests.statements.over.budget", method, uri).increment();
+            report(method + " " + uri, "{} {} ran {} SQL statements, over its budget of {}", method, uri, count, budget);
+        }
+        Map<String, Integer> repeated = annotation != null && annotation.allowRepeats()
+                ? Map.of()
+                : recording.repeated(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            counter("http.server.requests.statements.repeated", method, uri).increment();
+            repeated.forEach((shape, times) -> report(method + " " + uri + " " + shape,
+                    "{} {} ran the same statement {} times, a likely N+1: {}", method, uri, times, shape));
+        }
+    }
+
+    private static StatementBudget annotation(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            return handler.getMethodAnnotation(StatementBudget.class);
+        }
+        return null;
+    }
+
+    private Counter counter(String name, String method, String uri) {
+        return Counter.builder(name).tags("method", method, "uri", uri).register(meterRegistry);
+    }
+
+    private void report(String key, String message, Object... arguments) {
+        if (reported.size() < MAX_REPORTED && reported.add(key)) {
+            log.warn(message, arguments);
+        } else {
+            log.debug(message, arguments);
+        }
+    }
+}
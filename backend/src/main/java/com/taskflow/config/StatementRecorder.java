@@ -0,0 +1,93 @@
+package com.taskflow.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a recording is open.
+ * {@link CountingStatementInspector} reports every statement here; outside a recording nothing is
+ * kept. Statements are counted by their exact text and only reduced to shapes (literals and IN lists
+ * collapsed) when asked for repeats, so recording stays a map lookup per statement.
+ */
+public final class StatementRecorder {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+
+    private StatementRecorder() {
+    }
+
+    /**
+     * Starts recording on this thread until the returned recording is closed. Recordings nest: while
+     * an inner one is open, statements count towards it and every enclosing one.
+     */
+    public static Recording start() {
+        Recording recording = new Recording(CURRENT.get());
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    static void record(String sql) {
+        for (Recording recording = CURRENT.get(); recording != null; recording = recording.parent) {
+            recording.statements.merge(sql, 1, Integer::sum);
+            recording.count++;
+        }
+    }
+
+    static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return IN_LIST.matcher(shape).replaceAll("(?)");
+    }
+
+    public static final class Recording implements AutoCloseable {
+
+        private final Recording parent;
+        private final Map<String, Integer> statements = new HashMap<>();
+        private int count;
+
+        private Recording(Recording parent) {
+            this.parent = parent;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /**
+         * Statement shapes run at least {@code threshold} times, most repeated first: the signature of
+         * an N+1, where a query per row follows the query for the rows.
+         */
+        public Map<String, Integer> repeated(int threshold) {
+            Map<String, Integer> shapes = new HashMap<>();
+            statements.forEach((sql, times) -> shapes.merge(shape(sql), times, Integer::sum));
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            shapes.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return repeated;
+        }
+
+        public void reset() {
+            statements.clear();
+            count = 0;
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskflow.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Beans for serving requests on virtual threads ({@code spring.threads.virtual.enabled=true}, which
+ * Spring Boot applies to Tomcat, the MVC async executor and scheduling).
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    /**
+     * Sized from the connection pool: {@code virtual-threads.admission.requests-per-connection}
+     * permits per pooled connection, so that requests busy with something other than the database do
+     * not leave connections idle. Runs before Spring Security.
+     */
+    @Bean
+    public FilterRegistrationBean<AdmissionFilter> admissionFilter(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            @Value("${virtual-threads.admission.requests-per-connection}") int requestsPerConnection,
+            @Value("${virtual-threads.admission.max-wait}") Duration maxWait) throws SQLException {
+        int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        int maxConcurrentRequests = poolSize * requestsPerConnection;
+        log.info("Serving requests on virtual threads, at most {} at once ({} connections)", maxConcurrentRequests, poolSize);
+
+        FilterRegistrationBean<AdmissionFilter> registration =
+                new FilterRegistrationBean<>(new AdmissionFilter(maxConcurrentRequests, maxWait, objectMapper));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public PinnedThreadMonitor pinnedThreadMonitor(
+            @Value("${virtual-threads.pinned-threshold}") Duration threshold,
+            MeterRegistry meterRegistry) {
+        return new PinnedThreadMonitor(threshold, meterRegistry);
+    }
+}
@@ -0,0 +1,91 @@
+package com.taskflow.controller;
+
+import com.taskflow.service.ETags;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET handling. The body supplier is only invoked when the client's copy is stale, so a
+ * {@code 304 Not Modified} skips loading and serializing the representation.
+ */
+final class ConditionalResponses {
+
+    // Clients may keep the response but must revalidate it; set explicitly because Spring Security
+    // otherwise adds no-store, which stops browsers from ever sending If-None-Match.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    // The same URL is served as JSON or CBOR, so shared caches must key on Accept as well.
+    private static final String VARY = HttpHeaders.ACCEPT;
+
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * @param accept the request's {@code Accept} header; a JSON tag never matches a CBOR request or
+     *               the other way round
+     */
+    static <T> ResponseEntity<T> ifNoneMatch(String ifNoneMatch, String accept, String dataETag, Supplier<T> body) {
+        String etag = eTag(accept, dataETag);
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).varyBy(VARY).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).varyBy(VARY).body(body.get());
+    }
+
+    /** The tag of the data as it will be encoded for the given {@code Accept} header. */
+    static String eTag(String accept, String dataETag) {
+        return acceptsCborFirst(accept) ? ETags.inFormat(dataETag, "cbor") : dataETag;
+    }
+
+    // Follows MVC's negotiation between the two converters: the highest-quality, most specific
+    // acceptable type wins, and the JSON converter is registered first, so */* gets JSON.
+    private static boolean acceptsCborFirst(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        List<MediaType> types;
+        try {
+            types = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+        MimeTypeUtils.sortBySpecificity(types);
+        for (MediaType type : types) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+            if (type.isCompatibleWith(CBOR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-None-Match uses weak comparison: W/"x" matches "x", whichever side is weak.
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String current = ETags.opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if (tag.equals("*") || ETags.opaque(tag).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,13 +1,17 @@
 package com.taskflow.controller;
 
+import com.taskflow.config.MetricsConfig;
 import com.taskflow.dto.ProjectDto;
+import com.taskflow.security.AuthenticatedUser;
+import com.taskflow.service.ETags;
 import com.taskflow.service.ProjectService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -15,14 +19,18 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/projects")
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.CONTROLLER_TIMER, histogram = true)
 public class ProjectController {
 
     private final ProjectService projectService;
 
     @GetMapping
     public ResponseEntity<List<ProjectDto.Response>> findMyProjects(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(projectService.findByOwnerEmail(userDetails.getUsername()));
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ConditionalResponses.ifNoneMatch(ifNoneMatch, accept, projectService.ownerListETag(user.getId()),
+                () -> projectService.findByOwner(user.getId()));
     }
 
     @GetMapping("/all")
@@ -31,31 +39,42 @@ public class ProjectController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectDto.Response> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(projectService.findById(id));
+    public ResponseEntity<ProjectDto.Response> findById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ProjectDto.Response project = projectService.findById(id);
+        return ConditionalResponses.ifNoneMatch(ifNoneMatch, accept, ETags.of(project), () -> project);
     }
 
     @PostMapping
     public ResponseEntity<ProjectDto.Response> create(
             @Valid @RequestBody ProjectDto.Request request,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        ProjectDto.Response project = projectService.create(request, user.getId());
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(projectService.create(request, userDetails.getUsername()));
+                .eTag(ConditionalResponses.eTag(accept, ETags.of(project)))
+                .body(project);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ProjectDto.Response> update(
             @PathVariable Long id,
             @Valid @RequestBody ProjectDto.Request request,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(projectService.update(id, request, userDetails.getUsername()));
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        ProjectDto.Response project = projectService.update(id, request, user.getId(), ETags.requiredVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ConditionalResponses.eTag(accept, ETags.of(project))).body(project);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        projectService.delete(id, userDetails.getUsername());
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        projectService.delete(id, user.getId(), ETags.requiredVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
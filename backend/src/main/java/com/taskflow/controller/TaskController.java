@@ -1,60 +1,166 @@
 package com.taskflow.controller;
 
+import com.taskflow.config.MetricsConfig;
+import com.taskflow.config.StatementBudget;
 import com.taskflow.dto.TaskDto;
-import com.taskflow.entity.Priority;
-import com.taskflow.entity.TaskStatus;
+import com.taskflow.security.AuthenticatedUser;
+import com.taskflow.service.ChangeEventBroker;
+import com.taskflow.service.ETags;
+import com.taskflow.service.TaskBulkService;
+import com.taskflow.service.TaskExportService;
+import com.taskflow.service.TaskFileFormat;
+import com.taskflow.service.TaskImportService;
 import com.taskflow.service.TaskService;
+import com.taskflow.service.TaskSyncService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.CONTROLLER_TIMER, histogram = true)
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskBulkService taskBulkService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskSyncService taskSyncService;
+    private final ChangeEventBroker changeEventBroker;
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<TaskDto.Response>> findByProject(
+    public ResponseEntity<TaskDto.Page> findByProject(
             @PathVariable Long projectId,
-            @RequestParam(required = false) TaskStatus status,
-            @RequestParam(required = false) Priority priority) {
-        return ResponseEntity.ok(taskService.findByProject(projectId, status, priority));
+            TaskDto.Filter filter,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return ConditionalResponses.ifNoneMatch(ifNoneMatch, accept, taskService.listETag(projectId, filter),
+                () -> taskService.findByProject(projectId, filter));
+    }
+
+    // Only the ownership check runs on the request thread; rows are streamed after the handler returns.
+    @StatementBudget(2)
+    @GetMapping("/project/{projectId}/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        TaskFileFormat exportFormat = TaskFileFormat.fromParameter(format);
+        // Checked before the body starts, while errors can still be sent as normal responses.
+        taskService.checkProjectOwner(projectId, user.getId());
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("project-" + projectId + "-tasks." + exportFormat.getExtension())
+                        .build().toString())
+                .body(out -> taskExportService.export(projectId, exportFormat, out));
+    }
+
+    @GetMapping("/project/{projectId}/changes")
+    public ResponseEntity<TaskDto.Changes> changes(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(taskSyncService.changes(projectId, since, size, user.getId()));
+    }
+
+    @GetMapping(value = "/project/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(
+            @PathVariable Long projectId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        taskService.checkProjectOwner(projectId, user.getId());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                // Keeps reverse proxies such as nginx from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(changeEventBroker.subscribe(user.getId(), projectId, lastEventId));
+    }
+
+    // Without COPY, rows go in as JPA batches: an id sequence call and an insert per batch, so the
+    // count grows with the file.
+    @StatementBudget(value = Integer.MAX_VALUE, allowRepeats = true)
+    @PostMapping(value = "/project/{projectId}/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<TaskDto.ImportResult> importTasks(
+            @PathVariable Long projectId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body,
+            @AuthenticationPrincipal AuthenticatedUser user) throws IOException {
+        taskService.checkProjectOwner(projectId, user.getId());
+        return ResponseEntity.ok(taskImportService.importTasks(
+                projectId, TaskFileFormat.fromMediaType(contentType), body, TaskImportService.ImportListener.NONE));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TaskDto.SearchPage> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(taskService.search(q, page, size, user.getId()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TaskDto.Response> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.findById(id));
+    public ResponseEntity<TaskDto.Response> findById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        TaskDto.Response task = taskService.findById(id);
+        return ConditionalResponses.ifNoneMatch(ifNoneMatch, accept, ETags.of(task), () -> task);
     }
 
     @PostMapping
     public ResponseEntity<TaskDto.Response> create(
             @Valid @RequestBody TaskDto.Request request,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        TaskDto.Response task = taskService.create(request, user.getId());
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(taskService.create(request, userDetails.getUsername()));
+                .eTag(ConditionalResponses.eTag(accept, ETags.of(task)))
+                .body(task);
+    }
+
+    // 1000 operations: two lookups, an id sequence call per 50 creates, one batched insert, update and delete.
+    @StatementBudget(value = 30, allowRepeats = true)
+    @PostMapping("/bulk")
+    public ResponseEntity<TaskDto.BulkResponse> bulk(
+            @Valid @RequestBody TaskDto.BulkRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(taskBulkService.apply(request, user.getId()));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<TaskDto.Response> update(
             @PathVariable Long id,
             @Valid @RequestBody TaskDto.UpdateRequest request,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(taskService.update(id, request, userDetails.getUsername()));
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        TaskDto.Response task = taskService.update(id, request, user.getId(), ETags.requiredVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ConditionalResponses.eTag(accept, ETags.of(task))).body(task);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        taskService.delete(id, userDetails.getUsername());
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        taskService.delete(id, user.getId(), ETags.requiredVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
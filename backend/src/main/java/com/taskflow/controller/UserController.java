@@ -1,7 +1,9 @@
 package com.taskflow.controller;
 
+import com.taskflow.config.MetricsConfig;
 import com.taskflow.dto.UserDto;
 import com.taskflow.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +15,7 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.CONTROLLER_TIMER, histogram = true)
 public class UserController {
 
     private final UserService userService;
@@ -35,6 +38,14 @@ public class UserController {
         return ResponseEntity.ok(userService.update(id, request));
     }
 
+    @PutMapping("/{id}/role")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserDto.Response> updateRole(
+            @PathVariable Long id,
+            @Valid @RequestBody UserDto.RoleRequest request) {
+        return ResponseEntity.ok(userService.updateRole(id, request.getRole()));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
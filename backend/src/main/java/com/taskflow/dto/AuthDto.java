@@ -32,17 +32,29 @@ public class AuthDto {
         private String password;
     }
 
+    @Data
+    public static class RefreshRequest {
+        @NotBlank(message = "Refresh token is required")
+        private String refreshToken;
+    }
+
     @Data
     public static class AuthResponse {
         private String token;
         private String type = "Bearer";
+        /** Seconds until {@code token} expires; renew it with {@code refreshToken} at /api/auth/refresh. */
+        private long expiresIn;
+        private String refreshToken;
         private Long id;
         private String name;
         private String email;
         private String role;
 
-        public AuthResponse(String token, Long id, String name, String email, String role) {
+        public AuthResponse(String token, long expiresIn, String refreshToken,
+                            Long id, String name, String email, String role) {
             this.token = token;
+            this.expiresIn = expiresIn;
+            this.refreshToken = refreshToken;
             this.id = id;
             this.name = name;
             this.email = email;
@@ -25,6 +25,8 @@ public class ProjectDto {
         private String description;
         private UserDto.Response owner;
         private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private Long version;
         private int taskCount;
     }
 }
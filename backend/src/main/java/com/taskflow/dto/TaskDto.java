@@ -2,13 +2,19 @@ package com.taskflow.dto;
 
 import com.taskflow.entity.Priority;
 import com.taskflow.entity.TaskStatus;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 public class TaskDto {
 
@@ -61,5 +67,136 @@ public class TaskDto {
         private LocalDate dueDate;
         private Long projectId;
         private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private Long version;
+    }
+
+    @Data
+    public static class Filter {
+        private List<TaskStatus> status;
+        private List<Priority> priority;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate dueFrom;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate dueTo;
+
+        private boolean overdue;
+        private String q;
+
+        /** {@code property[,asc|desc]} where property is createdAt, dueDate or title. */
+        private String sort;
+
+        private String cursor;
+        private Integer size;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Page {
+        private List<Response> items;
+        private String nextCursor;
+    }
+
+    @Data
+    public static class SearchHit {
+        private Long id;
+        private Long projectId;
+        private String projectName;
+        private String title;
+        private String status;
+        private String priority;
+        private LocalDate dueDate;
+        private float rank;
+
+        /** HTML-escaped title with matched terms wrapped in {@code <mark>}. */
+        private String titleHighlight;
+
+        /** HTML-escaped description fragments with matched terms wrapped in {@code <mark>}. */
+        private String snippet;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class SearchPage {
+        private List<SearchHit> items;
+        private int page;
+        private int size;
+        private boolean hasMore;
+    }
+
+    @Data
+    public static class BulkRequest {
+        private List<@Valid @NotNull Request> create = new ArrayList<>();
+        private List<@Valid @NotNull BulkUpdate> update = new ArrayList<>();
+        private List<@NotNull Long> delete = new ArrayList<>();
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class BulkUpdate extends UpdateRequest {
+        @NotNull(message = "Task ID is required")
+        private Long id;
+
+        /** Optional: the version the client last saw; the update is rejected with 412 if it changed. */
+        private Long version;
+    }
+
+    public enum BulkOperation { CREATE, UPDATE, DELETE }
+
+    /** Outcome of one operation; {@code index} is its position in the request array of its kind. */
+    @Data
+    @AllArgsConstructor
+    public static class BulkResult {
+        private BulkOperation operation;
+        private int index;
+        private Long id;
+        private int status;
+        private String error;
+        private Response task;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class BulkResponse {
+        private int succeeded;
+        private int failed;
+        private List<BulkResult> results;
+    }
+
+    /**
+     * One page of a delta sync. {@code next} is passed back as {@code since}; {@code resync} means the
+     * client's position is older than the tombstone retention and it must start over without one.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Changes {
+        private List<Response> changed;
+        private List<Long> deleted;
+        private String next;
+        private boolean hasMore;
+        private boolean resync;
+    }
+
+    /** A rejected import row; {@code row} is the 1-based data record number (CSV header excluded). */
+    @Data
+    @AllArgsConstructor
+    public static class ImportError {
+        private long row;
+        private String message;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class ImportResult {
+        private long imported;
+        private long rejected;
+
+        /** The first rejected rows, up to the configured limit. */
+        private List<ImportError> errors;
+
+        private long elapsedMillis;
+        private long rowsPerSecond;
     }
 }
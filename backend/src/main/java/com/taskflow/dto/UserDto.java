@@ -3,6 +3,7 @@ package com.taskflow.dto;
 import com.taskflow.entity.Role;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
@@ -38,6 +39,12 @@ public class UserDto {
         private String email;
     }
 
+    @Data
+    public static class RoleRequest {
+        @NotNull(message = "Role is required")
+        private Role role;
+    }
+
     @Data
     public static class Response {
         private Long id;
@@ -2,7 +2,10 @@ package com.taskflow.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -14,10 +17,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks")
 public class Task {
 
+    /** Ids handed out per {@code tasks_id_seq} call; the sequence's increment (see V5 migration). */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts (see V5 migration).
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -44,4 +53,12 @@ public class Task {
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Checked and incremented by every update; exposed to clients as the ETag (see V7 migration).
+    @Version
+    private Long version;
 }
@@ -0,0 +1,33 @@
+package com.taskflow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "token_revocations")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** The revoked access token's id, or null when the user's tokens below {@link #minVersion} are. */
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    @Column(name = "min_version")
+    private Integer minVersion;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
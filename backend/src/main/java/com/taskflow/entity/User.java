@@ -2,6 +2,8 @@ package com.taskflow.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -14,6 +16,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 public class User {
 
     @Id
@@ -33,10 +36,16 @@ public class User {
     @Column(nullable = false, length = 20)
     private Role role;
 
+    /** Stamped into access tokens; incrementing it revokes every token issued before. */
+    @Builder.Default
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-projects")
     @OneToMany(mappedBy = "owner", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Project> projects;
 }
@@ -1,16 +1,66 @@
 package com.taskflow.repository;
 
 import com.taskflow.entity.Project;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+    // Every caller maps or authorizes against the owner, so fetch it in the same statement.
+    @Override
+    @EntityGraph(attributePaths = "owner")
+    List<Project> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "owner")
+    Optional<Project> findById(Long id);
+
+    @EntityGraph(attributePaths = "owner")
     List<Project> findByOwnerIdOrderByCreatedAtDesc(Long ownerId);
 
+    // Bulk operations only compare owner ids, which the owner_id column already provides.
+    List<Project> findByIdIn(Collection<Long> ids);
+
+    /** Owner of a project, read from {@code projects.owner_id}; empty if the project does not exist. */
+    @Query("SELECT p.owner.id FROM Project p WHERE p.id = :id")
+    Optional<Long> findOwnerIdById(Long id);
+
+    /**
+     * Deletes the project only if it belongs to {@code ownerId} and, unless {@code version} is null,
+     * is still at that version; returns the number of rows deleted.
+     */
+    @Modifying
+    @Query("DELETE FROM Project p WHERE p.id = :id AND p.owner.id = :ownerId "
+            + "AND (:version IS NULL OR p.version = :version)")
+    int deleteByIdAndOwnerId(Long id, Long ownerId, Long version);
+
+    /**
+     * Summary of everything an owner's project list is built from: the projects themselves and, for
+     * their task counts, the number of tasks and the latest task creation. The list ETag is derived
+     * from it.
+     */
+    @Query("SELECT COUNT(p) AS count, COALESCE(SUM(p.version), 0) AS versionSum, MAX(p.updatedAt) AS lastUpdated, "
+            + "(SELECT COUNT(t) FROM Task t WHERE t.project.owner.id = :ownerId) AS taskCount, "
+            + "(SELECT MAX(t.createdAt) FROM Task t WHERE t.project.owner.id = :ownerId) AS lastTaskCreated "
+            + "FROM Project p WHERE p.owner.id = :ownerId")
+    ChangeSummary summarizeByOwnerId(Long ownerId);
+
     @Query("SELECT p FROM Project p LEFT JOIN FETCH p.tasks WHERE p.id = :id")
-    java.util.Optional<Project> findByIdWithTasks(Long id);
+    Optional<Project> findByIdWithTasks(Long id);
+
+    interface ChangeSummary {
+        long getCount();
+        long getVersionSum();
+        LocalDateTime getLastUpdated();
+        long getTaskCount();
+        LocalDateTime getLastTaskCreated();
+    }
 }
@@ -0,0 +1,33 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.user WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Marks the token used unless a concurrent refresh already did; returns the number of rows
+     * updated, so 0 means the token was presented twice.
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.usedAt = :now WHERE r.id = :id AND r.usedAt IS NULL")
+    int markUsed(Long id, LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.familyId = :familyId")
+    int deleteByFamilyId(String familyId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,8 @@
+package com.taskflow.repository;
+
+/**
+ * Position after which the next slice of a task listing starts: the sort key value
+ * (possibly {@code null}) and the id of the last task already returned.
+ */
+public record TaskKeyset(Object value, Long id) {
+}
@@ -1,17 +1,182 @@
 package com.taskflow.repository;
 
-import com.taskflow.entity.Priority;
 import com.taskflow.entity.Task;
-import com.taskflow.entity.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * Project task listings are built from {@link TaskSpecifications} and keyset-paginated through
+ * {@link TaskRepositoryCustom#findSlice}; see the V2/V3 migrations for the supporting indexes.
+ */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByProjectIdOrderByCreatedAtDesc(Long projectId);
-    List<Task> findByProjectIdAndStatus(Long projectId, TaskStatus status);
-    List<Task> findByProjectIdAndPriority(Long projectId, Priority priority);
-    List<Task> findByProjectIdAndStatusAndPriority(Long projectId, TaskStatus status, Priority priority);
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+    long countByProjectId(Long projectId);
+
+    // Bulk operations authorize every task against the owner_id of its project.
+    @EntityGraph(attributePaths = "project")
+    List<Task> findByIdIn(Collection<Long> ids);
+
+    /** Owner of the task's project, read from {@code projects.owner_id}; empty if the task does not exist. */
+    @Query("SELECT t.project.owner.id FROM Task t WHERE t.id = :id")
+    Optional<Long> findOwnerIdById(Long id);
+
+    /**
+     * Deletes every task of the project if the project belongs to {@code ownerId}. As a bulk
+     * statement it makes Hibernate clear the whole task cache region; single tasks are removed as
+     * entities instead.
+     */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.project.id IN "
+            + "(SELECT p.id FROM Project p WHERE p.id = :projectId AND p.owner.id = :ownerId)")
+    int deleteByProjectIdAndOwnerId(Long projectId, Long ownerId);
+
+    @Query("SELECT t.project.id AS projectId, COUNT(t) AS taskCount FROM Task t GROUP BY t.project.id")
+    List<ProjectTaskCount> countGroupedByProject();
+
+    @Query("SELECT t.project.id AS projectId, COUNT(t) AS taskCount FROM Task t "
+            + "WHERE t.project.owner.id = :ownerId GROUP BY t.project.id")
+    List<ProjectTaskCount> countGroupedByProjectForOwner(Long ownerId);
+
+    /**
+     * Summary of a project's tasks that changes with every insert (latest update time), update
+     * (version sum) and delete (count); the task list ETag is derived from it.
+     */
+    @Query("SELECT COUNT(t) AS count, COALESCE(SUM(t.version), 0) AS versionSum, MAX(t.updatedAt) AS lastUpdated "
+            + "FROM Task t WHERE t.project.id = :projectId")
+    ChangeSummary summarizeByProjectId(Long projectId);
+
+    /**
+     * Changed and deleted tasks of a project after position ({@code afterXid}, {@code afterId}), in
+     * (change_xid, id) order. Only transactions older than the oldest one still running are included
+     * (see V8), so nothing can commit behind the last position returned. Each branch is a range scan
+     * on its (project_id, change_xid, id) index, cut to the limit before the merge.
+     */
+    @Query(value = """
+            WITH horizon AS (
+                SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint) AS xmin
+            )
+            (SELECT t.id AS id, t.change_xid AS changeXid, false AS deleted
+             FROM tasks t, horizon h
+             WHERE t.project_id = :projectId
+               AND (t.change_xid, t.id) > (:afterXid, :afterId)
+               AND t.change_xid < h.xmin
+             ORDER BY t.change_xid, t.id
+             LIMIT :limit)
+            UNION ALL
+            (SELECT d.task_id, d.change_xid, true
+             FROM task_tombstones d, horizon h
+             WHERE d.project_id = :projectId
+               AND (d.change_xid, d.task_id) > (:afterXid, :afterId)
+               AND d.change_xid < h.xmin
+             ORDER BY d.change_xid, d.task_id
+             LIMIT :limit)
+            ORDER BY changeXid, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Change> findChanges(Long projectId, long afterXid, long afterId, int limit);
+
+    /**
+     * Purges tombstones of tasks deleted before {@code before}; returns the number removed. The query
+     * space names the one table touched: without it Hibernate assumes a native statement may have
+     * changed any table and clears every second-level cache region.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "task_tombstones"))
+    @Query(value = "DELETE FROM task_tombstones WHERE deleted_at < :before", nativeQuery = true)
+    int deleteTombstonesBefore(LocalDateTime before);
+
+    /** Rows fetched per round trip when streaming; PostgreSQL only honours it inside a transaction. */
+    String EXPORT_FETCH_SIZE = "500";
+
+    /**
+     * Streams a project's tasks through a server-side cursor for exports. Must be consumed inside a
+     * read-only transaction and closed; entities should be detached once written. Bypasses the
+     * second-level cache so an export does not push the hot entries out of the tasks region; the
+     * hint only covers query execution, so the caller's session must ignore the cache while reading.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<Task> streamByProjectId(Long projectId);
+
+    /**
+     * Ranked full-text search over the tasks of every project owned by {@code ownerId}, backed by
+     * the generated {@code search_vector} column and its GIN index (V4). Matches are ranked and cut
+     * to one page first; highlights are only computed for the rows of that page. Highlighted terms
+     * are wrapped in {@link #HIGHLIGHT_START} / {@link #HIGHLIGHT_STOP}.
+     */
+    @Query(value = """
+            SELECT t.id AS id, t.project_id AS projectId, p.name AS projectName, t.title AS title,
+                   t.status AS status, t.priority AS priority, t.due_date AS dueDate, ranked.rank AS rank,
+                   ts_headline('english', t.title, ranked.query,
+                               'HighlightAll=true, StartSel=' || chr(2) || ', StopSel=' || chr(3)) AS titleHighlight,
+                   ts_headline('english', coalesce(t.description, ''), ranked.query,
+                               'MaxFragments=2, MaxWords=20, MinWords=8, StartSel=' || chr(2) || ', StopSel=' || chr(3)) AS snippet
+            FROM (
+                SELECT t.id, ts_rank(t.search_vector, q.query) AS rank, q.query
+                FROM tasks t
+                JOIN projects p ON p.id = t.project_id
+                CROSS JOIN websearch_to_tsquery('english', :query) AS q(query)
+                WHERE p.owner_id = :ownerId AND t.search_vector @@ q.query
+                ORDER BY rank DESC, t.id DESC
+                LIMIT :limit OFFSET :offset
+            ) ranked
+            JOIN tasks t ON t.id = ranked.id
+            JOIN projects p ON p.id = t.project_id
+            ORDER BY ranked.rank DESC, t.id DESC
+            """, nativeQuery = true)
+    List<SearchHit> search(Long ownerId, String query, int limit, long offset);
+
+    char HIGHLIGHT_START = '\u0002';
+    char HIGHLIGHT_STOP = '\u0003';
+
+    interface SearchHit {
+        Long getId();
+        Long getProjectId();
+        String getProjectName();
+        String getTitle();
+        String getStatus();
+        String getPriority();
+        LocalDate getDueDate();
+        float getRank();
+        String getTitleHighlight();
+        String getSnippet();
+    }
+
+    interface ProjectTaskCount {
+        Long getProjectId();
+        long getTaskCount();
+    }
+
+    interface Change {
+        Long getId();
+        long getChangeXid();
+        boolean isDeleted();
+    }
+
+    interface ChangeSummary {
+        long getCount();
+        long getVersionSum();
+        LocalDateTime getLastUpdated();
+    }
 }
@@ -0,0 +1,15 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+    /**
+     * Returns at most {@code limit} tasks matching {@code filter}, ordered by {@code sort}
+     * and starting after {@code after} (or from the beginning when {@code null}), in a
+     * single statement.
+     */
+    List<Task> findSlice(Specification<Task> filter, TaskSort sort, TaskKeyset after, int limit);
+}
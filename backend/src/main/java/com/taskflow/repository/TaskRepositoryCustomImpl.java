@@ -0,0 +1,72 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> findSlice(Specification<Task> filter, TaskSort sort, TaskKeyset after, int limit) {
+        HibernateCriteriaBuilder cb = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+
+        Predicate where = filter.toPredicate(root, query, cb);
+        if (after != null) {
+            Predicate keyset = keysetPredicate(cb, root, sort, after);
+            where = where != null ? cb.and(where, keyset) : keyset;
+        }
+        if (where != null) {
+            query.where(where);
+        }
+
+        Expression<?> key = root.get(sort.key().property());
+        Expression<?> id = root.get("id");
+        if (sort.isAscending()) {
+            query.orderBy(cb.asc(key, false), cb.asc(id));
+        } else {
+            query.orderBy(cb.desc(key, true), cb.desc(id));
+        }
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate keysetPredicate(HibernateCriteriaBuilder cb, Root<Task> root, TaskSort sort, TaskKeyset after) {
+        Expression<Comparable> key = root.get(sort.key().property());
+        Expression<Long> id = root.get("id");
+        Comparable value = (Comparable) after.value();
+        boolean ascending = sort.isAscending();
+
+        Predicate afterId = ascending ? cb.greaterThan(id, after.id()) : cb.lessThan(id, after.id());
+        if (value == null) {
+            // Null keys sort last ascending and first descending.
+            Predicate sameKey = cb.and(cb.isNull(key), afterId);
+            return ascending ? sameKey : cb.or(cb.isNotNull(key), sameKey);
+        }
+
+        Predicate beyondKey = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+        Predicate sameKey = cb.and(cb.equal(key, value), afterId);
+        if (ascending && sort.key().nullable()) {
+            return cb.or(beyondKey, sameKey, cb.isNull(key));
+        }
+        return cb.or(beyondKey, sameKey);
+    }
+}
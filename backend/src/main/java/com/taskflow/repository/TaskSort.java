@@ -0,0 +1,46 @@
+package com.taskflow.repository;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Sort order of a task listing. Ties are always broken by {@code id} in the same direction,
+ * and {@code null} keys sort as the greatest value (last ascending, first descending), which
+ * is PostgreSQL's native order and lets a single index serve both directions.
+ */
+public record TaskSort(Key key, Sort.Direction direction) {
+
+    public static final TaskSort DEFAULT = new TaskSort(Key.CREATED_AT, Sort.Direction.DESC);
+
+    public boolean isAscending() {
+        return direction.isAscending();
+    }
+
+    public enum Key {
+        CREATED_AT("createdAt", false),
+        DUE_DATE("dueDate", true),
+        TITLE("title", false);
+
+        private final String property;
+        private final boolean nullable;
+
+        Key(String property, boolean nullable) {
+            this.property = property;
+            this.nullable = nullable;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public boolean nullable() {
+            return nullable;
+        }
+
+        public static Optional<Key> fromProperty(String property) {
+            return Arrays.stream(values()).filter(key -> key.property.equals(property)).findFirst();
+        }
+    }
+}
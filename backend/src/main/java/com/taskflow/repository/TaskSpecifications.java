@@ -0,0 +1,61 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.Priority;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Composable task filters. Each one maps onto an index from the V2/V3 migrations.
+ */
+public final class TaskSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Task> statusIn(Collection<TaskStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> priorityIn(Collection<Priority> priorities) {
+        return (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> overdue(LocalDate today) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThan(root.get("dueDate"), today),
+                cb.notEqual(root.get("status"), TaskStatus.DONE));
+    }
+
+    /**
+     * Case-insensitive substring match on title or description, backed by trigram indexes.
+     */
+    public static Specification<Task> textMatches(String text) {
+        String pattern = "%" + escapeLike(text.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("description")), pattern, LIKE_ESCAPE));
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
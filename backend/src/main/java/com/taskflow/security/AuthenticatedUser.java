@@ -0,0 +1,42 @@
+package com.taskflow.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal of an authenticated request. Carries the user id next to the email, so services can
+ * authorize by {@code owner_id} without looking the user up, and the token version its access
+ * tokens are issued with.
+ */
+@Getter
+public class AuthenticatedUser extends User {
+
+    private final Long id;
+    private final int tokenVersion;
+
+    public AuthenticatedUser(Long id, String email, String password,
+                             Collection<? extends GrantedAuthority> authorities) {
+        this(id, email, password, authorities, 0);
+    }
+
+    public AuthenticatedUser(Long id, String email, String password,
+                             Collection<? extends GrantedAuthority> authorities, int tokenVersion) {
+        super(email, password, authorities);
+        this.id = id;
+        this.tokenVersion = tokenVersion;
+    }
+
+    public static AuthenticatedUser of(com.taskflow.entity.User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())), user.getTokenVersion());
+    }
+
+    public AuthenticatedUser withoutCredentials() {
+        return new AuthenticatedUser(id, getUsername(), "", getAuthorities(), tokenVersion);
+    }
+}
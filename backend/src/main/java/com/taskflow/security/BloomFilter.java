@@ -0,0 +1,70 @@
+package com.taskflow.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter of strings, safe to add to and query from any thread without locking.
+ * {@link #mightContain} is false for most keys never added and always true for keys that were, so
+ * callers confirm a hit against an exact structure. Sized for {@code expectedKeys} at the given
+ * false positive rate; past that it keeps working with a rising rate.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomFilter(int expectedKeys, double falsePositiveRate) {
+        int keys = Math.max(1, expectedKeys);
+        double bitsPerKey = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        int wordCount = (int) Math.max(1, Math.ceil(keys * bitsPerKey / Long.SIZE));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round(bitsPerKey * Math.log(2)));
+    }
+
+    void add(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bit(hash, i);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (current, set) -> current | set);
+            }
+        }
+    }
+
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bit(hash, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Double hashing (Kirsch and Mitzenmacher): probe i is h1 + i * h2.
+    private long bit(long hash, int i) {
+        long combined = (hash >>> 32) + i * (hash & 0xFFFFFFFFL | 1);
+        return Math.floorMod(combined, bitCount);
+    }
+
+    // FNV-1a over the UTF-8 bytes, then MurmurHash3's finalizer to spread the bits.
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
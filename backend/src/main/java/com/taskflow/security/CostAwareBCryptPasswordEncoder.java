@@ -0,0 +1,31 @@
+package com.taskflow.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt at the configured cost, which also reports hashes of a higher cost as needing an upgrade.
+ * Lowering the cost then migrates users as they log in, the same as raising it does.
+ */
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+
+    public CostAwareBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_HASH.matcher(encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
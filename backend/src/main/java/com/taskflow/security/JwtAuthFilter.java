@@ -1,5 +1,6 @@
 package com.taskflow.security;
 
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,8 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -23,7 +22,9 @@ import java.io.IOException;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocations tokenRevocations;
 
     @Override
     protected void doFilterInternal(
@@ -40,12 +41,18 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String userEmail = jwtService.extractUsername(jwt);
+            final JwtService.VerifiedToken token = jwtService.verify(jwt);
+            final String userEmail = token.subject();
 
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            if (tokenRevocations.isRevoked(token)) {
+                log.debug("Rejected revoked token of user {}", token.userId());
+            } else if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                AuthenticatedUser userDetails = token.principal();
+                if (userDetails == null) {
+                    userDetails = principalCache.get(userEmail, userDetailsService::loadUserByUsername);
+                }
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(token, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities()
                     );
@@ -53,6 +60,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                 }
             }
+        } catch (ExpiredJwtException e) {
+            log.debug("Expired JWT of {}", e.getClaims().getSubject());
         } catch (Exception e) {
             log.error("JWT authentication error: {}", e.getMessage());
         }
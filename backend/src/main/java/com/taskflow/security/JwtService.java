@@ -1,29 +1,78 @@
 package com.taskflow.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    /** Claim carrying the user id, so requests can be authorized by id without a user lookup. */
+    public static final String USER_ID_CLAIM = "uid";
+    /** Claim carrying the user's authorities, so requests are authenticated without a user lookup. */
+    public static final String ROLES_CLAIM = "roles";
+    /** Claim carrying the user's token version at issue; see {@link TokenRevocations}. */
+    public static final String TOKEN_VERSION_CLAIM = "ver";
 
-    @Value("${jwt.expiration}")
-    private long expiration;
+    private final long expiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Timer cachedVerifications;
+    private final Timer verifications;
+    private final Timer rejections;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    public JwtService(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.expiration}") long expiration,
+                      @Value("${jwt.verified-cache.max-size}") long verifiedCacheSize,
+                      @Value("${jwt.verified-cache.ttl}") Duration verifiedCacheTtl,
+                      MeterRegistry meterRegistry) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfterWrite(verifiedCacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verified-tokens");
+        this.cachedVerifications = verificationTimer(meterRegistry, "cached");
+        this.verifications = verificationTimer(meterRegistry, "verified");
+        this.rejections = verificationTimer(meterRegistry, "rejected");
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verification")
+                .description("Time to verify a request's token, by cache hit, full verification or rejection")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -31,42 +80,135 @@ public class JwtService {
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        if (userDetails instanceof AuthenticatedUser user) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+            claims.put(ROLES_CLAIM, user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        }
         return Jwts.builder()
-                .claims(extraClaims)
+                .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Parses and verifies the token exactly once. Tokens verified recently are served from a
+     * cache keyed by their SHA-256 digest, so repeated requests with the same token skip the
+     * signature check; expiry is still enforced on every call.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verify(String token) {
+        long start = System.nanoTime();
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (!cached.isExpired(Instant.now())) {
+                cachedVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return cached;
+            }
+            verifiedTokens.invalidate(digest);
+        }
+
+        VerifiedToken verified;
+        try {
+            verified = VerifiedToken.from(parser.parseSignedClaims(token).getPayload());
+        } catch (RuntimeException ex) {
+            rejections.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+        verifiedTokens.put(digest, verified);
+        verifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return verified;
+    }
+
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(verify(token), userDetails);
+    }
+
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.subject().equals(userDetails.getUsername())
+                && !token.isExpired(Instant.now())
+                && isSameAccount(token, userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public long getExpiration() {
+        return expiration;
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    // A token issued to a deleted account must not authenticate a new account with the same email.
+    // Tokens issued before the id claim existed carry no id and are matched by email only.
+    private static boolean isSameAccount(VerifiedToken token, UserDetails userDetails) {
+        Long userId = token.userId();
+        return userId == null || !(userDetails instanceof AuthenticatedUser user) || userId.equals(user.getId());
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public <T> T extractClaim(String token, Function<Map<String, Object>, T> claimsResolver) {
+        return claimsResolver.apply(verify(token).claims());
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Immutable view of a token whose signature has been checked.
+     */
+    public record VerifiedToken(String subject, Instant issuedAt, Instant expiresAt, Map<String, Object> claims) {
+
+        static VerifiedToken from(Claims claims) {
+            return new VerifiedToken(
+                    claims.getSubject(),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                    Map.copyOf(claims)
+            );
+        }
+
+        public Long userId() {
+            return claims.get(USER_ID_CLAIM) instanceof Number id ? id.longValue() : null;
+        }
+
+        public String tokenId() {
+            return claims.get(Claims.ID) instanceof String id ? id : null;
+        }
+
+        /** Tokens issued before versions existed count as version 0. */
+        public int tokenVersion() {
+            return claims.get(TOKEN_VERSION_CLAIM) instanceof Number version ? version.intValue() : 0;
+        }
+
+        /**
+         * The principal the token describes, or null for tokens issued before they carried the
+         * user id and roles, whose principal has to be looked up.
+         */
+        public AuthenticatedUser principal() {
+            Long userId = userId();
+            if (userId == null || !(claims.get(ROLES_CLAIM) instanceof Collection<?> roles)) {
+                return null;
+            }
+            List<GrantedAuthority> authorities = roles.stream()
+                    .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.toString()))
+                    .toList();
+            return new AuthenticatedUser(userId, subject, "", authorities, tokenVersion());
+        }
+
+        public boolean isExpired(Instant now) {
+            return expiresAt != null && !expiresAt.isAfter(now);
+        }
     }
 }
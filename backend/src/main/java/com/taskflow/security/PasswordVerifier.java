@@ -0,0 +1,122 @@
+package com.taskflow.security;
+
+import com.taskflow.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs password hashing for logins and registrations on its own small pool, so a login storm uses
+ * at most {@code security.password.threads} CPUs and leaves the rest to normal API traffic. Checks
+ * beyond {@code security.password.queue-capacity} waiting ones are rejected right away with
+ * {@link TooManyRequestsException} rather than queueing behind minutes of BCrypt work.
+ */
+@Component
+public class PasswordVerifier {
+
+    private static final String USER_NOT_FOUND_PASSWORD = "userNotFoundPassword";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+    private volatile String userNotFoundHash;
+
+    @Autowired
+    public PasswordVerifier(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+                            @Value("${security.password.threads}") int threads,
+                            @Value("${security.password.queue-capacity}") int queueCapacity) {
+        this(passwordEncoder, meterRegistry, executor(
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queueCapacity));
+    }
+
+    PasswordVerifier(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry, ThreadPoolExecutor executor) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.rejected = Counter.builder("security.password.rejected")
+                .description("Password checks rejected because too many were waiting")
+                .register(meterRegistry);
+        Gauge.builder("security.password.queued", executor, pool -> pool.getQueue().size())
+                .description("Password checks waiting for a thread")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks a password against the user's hash. Without a hash (unknown email) it does the same
+     * work against a dummy one, so response times do not reveal which emails are registered.
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            run(() -> passwordEncoder.matches(rawPassword, userNotFoundHash()));
+            return false;
+        }
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Whether a hash that just matched should be replaced, e.g. because the BCrypt cost changed.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private String userNotFoundHash() {
+        String hash = userNotFoundHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(USER_NOT_FOUND_PASSWORD);
+            userNotFoundHash = hash;
+        }
+        return hash;
+    }
+
+    private <T> T run(Callable<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(work);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new TooManyRequestsException("Too many sign-ins in progress; retry shortly");
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private static ThreadPoolExecutor executor(int threads, int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskflow.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Bounded, expiring cache of authenticated principals keyed by email, so that
+ * {@link JwtAuthFilter} does not query the users table on every request.
+ * Entries never hold the password hash.
+ */
+@Component
+public class PrincipalCache {
+
+    private final AsyncCache<String, AuthenticatedUser> cache;
+
+    public PrincipalCache(@Value("${security.principal-cache.max-size}") long maxSize,
+                          @Value("${security.principal-cache.ttl}") Duration ttl,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    /**
+     * Concurrent misses for the same email share one load. The load runs in the calling thread
+     * outside the cache's lock: a loader inside {@code Cache.get} would block on JDBC while holding a
+     * monitor, pinning the carrier of a virtual thread. Failed loads are not cached.
+     */
+    public AuthenticatedUser get(String email, Function<String, AuthenticatedUser> loader) {
+        CompletableFuture<AuthenticatedUser> load = new CompletableFuture<>();
+        CompletableFuture<AuthenticatedUser> entry = cache.get(email, (key, executor) -> load);
+        if (entry == load) {
+            try {
+                load.complete(loader.apply(email).withoutCredentials());
+            } catch (RuntimeException ex) {
+                load.completeExceptionally(ex);
+            }
+        }
+        try {
+            return entry.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    /**
+     * Evicts the principal once the surrounding transaction commits, so a concurrent
+     * request cannot re-cache the old row before the change is visible.
+     */
+    public void invalidate(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.synchronous().invalidate(email);
+                }
+            });
+        } else {
+            cache.synchronous().invalidate(email);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.taskflow.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.exception.GlobalExceptionHandler;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Applies {@link RateLimiter} to {@code /api/**}, right after {@link JwtAuthFilter} so the
+ * authenticated user is known. {@code /api/auth/**} is limited per client IP, since logging in is
+ * what it guards; other routes per user, or per IP for requests without a valid token. Requests
+ * over the limit get {@code 429} with {@code Retry-After} before reaching a controller.
+ *
+ * <p>The client IP is the connection's remote address. Behind a reverse proxy, set
+ * {@code server.forward-headers-strategy} so that it is the client's rather than the proxy's.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String API = "/api/";
+    private static final String AUTH = "/api/auth/";
+    private static final String TASKS = "/api/tasks";
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod()) || !path(request).startsWith(API);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String path = path(request);
+        RateLimiter.Group group = path.startsWith(AUTH) ? RateLimiter.Group.AUTH
+                : path.startsWith(TASKS) ? RateLimiter.Group.TASKS
+                : RateLimiter.Group.API;
+
+        Duration wait = rateLimiter.tryAcquire(group, key(group, request));
+        if (!wait.isZero()) {
+            reject(response, wait);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static String key(RateLimiter.Group group, HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (group != RateLimiter.Group.AUTH
+                && authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return "user:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private void reject(HttpServletResponse response, Duration wait) throws IOException {
+        long seconds = Math.max(1, (wait.toMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new GlobalExceptionHandler.ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests; retry in " + seconds + "s",
+                LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,168 @@
+package com.taskflow.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Token buckets per client and route group. A bucket holds up to {@code capacity} requests and
+ * refills completely over {@code period}, one token every {@code period / capacity}.
+ *
+ * <p>Each bucket is a single {@code long}, the time at which it will be full again, updated with
+ * compare-and-set, so clients hammering their own bucket never take a lock. A full bucket limits
+ * exactly like a missing one, so {@link #sweep()} drops them periodically; at most {@code maxKeys}
+ * buckets are kept per group, evicting the least used first. Buckets do not expire on access, which
+ * would add bookkeeping to every check.
+ */
+@Component
+public class RateLimiter {
+
+    public enum Group {
+        /** Anonymous login, registration and refresh, per client IP. */
+        AUTH,
+        /** {@code /api/tasks/**}, per user. */
+        TASKS,
+        /** The rest of {@code /api/**}, per user. */
+        API
+    }
+
+    private final Ticker ticker;
+    private final Map<Group, Buckets> groups = new EnumMap<>(Group.class);
+
+    @Autowired
+    public RateLimiter(@Value("${rate-limit.auth.capacity}") int authCapacity,
+                       @Value("${rate-limit.auth.period}") Duration authPeriod,
+                       @Value("${rate-limit.tasks.capacity}") int tasksCapacity,
+                       @Value("${rate-limit.tasks.period}") Duration tasksPeriod,
+                       @Value("${rate-limit.api.capacity}") int apiCapacity,
+                       @Value("${rate-limit.api.period}") Duration apiPeriod,
+                       @Value("${rate-limit.max-keys}") long maxKeys,
+                       MeterRegistry meterRegistry) {
+        this(Map.of(Group.AUTH, new Limit(authCapacity, authPeriod),
+                        Group.TASKS, new Limit(tasksCapacity, tasksPeriod),
+                        Group.API, new Limit(apiCapacity, apiPeriod)),
+                maxKeys, meterRegistry, Ticker.systemTicker());
+    }
+
+    RateLimiter(Map<Group, Limit> limits, long maxKeys, MeterRegistry meterRegistry, Ticker ticker) {
+        this.ticker = ticker;
+        for (Group group : Group.values()) {
+            groups.put(group, new Buckets(limits.get(group), maxKeys, meterRegistry, group));
+        }
+    }
+
+    /**
+     * Takes a token from {@code key}'s bucket in {@code group}.
+     *
+     * @return {@link Duration#ZERO} if the request may proceed, otherwise how long until a token is available
+     */
+    public Duration tryAcquire(Group group, String key) {
+        Buckets buckets = groups.get(group);
+        long now = ticker.read();
+        Bucket bucket = buckets.cache.get(key, k -> new Bucket(now));
+        long waitNanos = bucket.tryAcquire(now, buckets.intervalNanos, buckets.periodNanos);
+        if (waitNanos > 0) {
+            buckets.rejected.increment();
+            return Duration.ofNanos(waitNanos);
+        }
+        return Duration.ZERO;
+    }
+
+    /**
+     * Drops the buckets that have refilled completely. A request racing with the removal may have
+     * its token forgiven, which at worst lets a client just past its limit once.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval}", initialDelayString = "${rate-limit.sweep-interval}")
+    public void sweep() {
+        long now = ticker.read();
+        groups.values().forEach(buckets -> buckets.cache.asMap().values().removeIf(bucket -> bucket.isFull(now)));
+    }
+
+    long size(Group group) {
+        Buckets buckets = groups.get(group);
+        buckets.cache.cleanUp();
+        return buckets.cache.estimatedSize();
+    }
+
+    record Limit(int capacity, Duration period) {
+
+        Limit {
+            if (capacity < 1 || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("A rate limit needs a positive capacity and period");
+            }
+        }
+    }
+
+    private static final class Buckets {
+
+        private final long intervalNanos;
+        private final long periodNanos;
+        private final Cache<String, Bucket> cache;
+        private final Counter rejected;
+
+        Buckets(Limit limit, long maxKeys, MeterRegistry meterRegistry, Group group) {
+            this.intervalNanos = limit.period().toNanos() / limit.capacity();
+            this.periodNanos = intervalNanos * limit.capacity();
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .build();
+            String tag = group.name().toLowerCase(Locale.ROOT);
+            this.rejected = Counter.builder("security.ratelimit.rejected")
+                    .description("Requests turned away with 429 for exceeding their rate limit")
+                    .tag("group", tag)
+                    .register(meterRegistry);
+            Gauge.builder("security.ratelimit.buckets", cache, Cache::estimatedSize)
+                    .description("Clients with a rate limit bucket in memory")
+                    .tag("group", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Tracks when the bucket is full again rather than how many tokens it holds: taking a token
+     * pushes that time back by one interval, and is refused when it would land more than a whole
+     * period ahead of now. This is the token bucket in one word of state.
+     */
+    static final class Bucket {
+
+        private static final AtomicLongFieldUpdater<Bucket> FULL_AT =
+                AtomicLongFieldUpdater.newUpdater(Bucket.class, "fullAt");
+
+        private volatile long fullAt;
+
+        Bucket(long now) {
+            this.fullAt = now;
+        }
+
+        boolean isFull(long now) {
+            return fullAt - now <= 0;
+        }
+
+        long tryAcquire(long now, long intervalNanos, long periodNanos) {
+            while (true) {
+                long current = fullAt;
+                long next = Math.max(current, now) + intervalNanos;
+                long overdraft = next - now - periodNanos;
+                if (overdraft > 0) {
+                    return overdraft;
+                }
+                if (FULL_AT.compareAndSet(this, current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
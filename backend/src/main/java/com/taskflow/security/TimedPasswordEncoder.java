@@ -0,0 +1,42 @@
+package com.taskflow.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Times a password encoder as {@code security.password.encode} (registration, password changes)
+ * and {@code security.password.matches} (logins). With BCrypt these dominate the auth endpoints,
+ * so the timers show what a cost factor change costs in production.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Timer encode;
+    private final Timer matches;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encode = Timer.builder("security.password.encode")
+                .description("Time to hash a password")
+                .register(meterRegistry);
+        this.matches = Timer.builder("security.password.matches")
+                .description("Time to check a password against its hash")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encode.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return matches.record(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,205 @@
+package com.taskflow.security;
+
+import com.taskflow.entity.TokenRevocation;
+import com.taskflow.repository.TokenRevocationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access tokens revoked before they expire: one token on logout, or all of a user's tokens below a
+ * token version when the user is deleted or their role or email changes. {@link JwtAuthFilter}
+ * checks every request against an in-memory copy, so authentication stays free of database reads.
+ * A Bloom filter answers for the tokens that were never revoked, which is nearly all of them; its
+ * hits are confirmed against exact maps.
+ *
+ * <p>Revocations are stored in {@code token_revocations}, applied locally when their transaction
+ * commits, and picked up by the other instances within {@code jwt.revocations.sync-interval}. They
+ * are dropped once every token they cover has expired.
+ */
+@Component
+@Slf4j
+public class TokenRevocations {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final TokenRevocationRepository repository;
+    private final Duration accessTokenTtl;
+    private final int expectedRevocations;
+    private final Object lock = new Object();
+    private volatile Snapshot snapshot;
+
+    public TokenRevocations(TokenRevocationRepository repository,
+                            @Value("${jwt.expiration}") long accessTokenTtlMillis,
+                            @Value("${jwt.revocations.expected}") int expectedRevocations,
+                            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.accessTokenTtl = Duration.ofMillis(accessTokenTtlMillis);
+        this.expectedRevocations = expectedRevocations;
+        this.snapshot = new Snapshot(expectedRevocations);
+        Gauge.builder("security.token.revocations", this, revocations -> revocations.snapshot.size())
+                .description("Revoked access tokens and users held in memory")
+                .register(meterRegistry);
+    }
+
+    public boolean isRevoked(JwtService.VerifiedToken token) {
+        return snapshot.isRevoked(token.userId(), token.tokenVersion(), token.tokenId());
+    }
+
+    /** Revokes one access token, e.g. on logout. */
+    @Transactional
+    public void revokeToken(Long userId, String tokenId, Instant expiresAt) {
+        TokenRevocation revocation = repository.save(TokenRevocation.builder()
+                .userId(userId)
+                .tokenId(tokenId)
+                .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                .build());
+        afterCommit(revocation);
+    }
+
+    /** Revokes every access token of the user whose version is below {@code minVersion}. */
+    @Transactional
+    public void revokeUser(Long userId, int minVersion) {
+        TokenRevocation revocation = repository.save(TokenRevocation.builder()
+                .userId(userId)
+                .minVersion(minVersion)
+                .expiresAt(LocalDateTime.now().plus(accessTokenTtl))
+                .build());
+        afterCommit(revocation);
+    }
+
+    /**
+     * Reloads the revocations of all instances and drops expired ones. The current entries are
+     * carried over, including local ones committed after the query started.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jwt.revocations.sync-interval}",
+            initialDelayString = "${jwt.revocations.sync-interval}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TokenRevocation> stored = repository.findByExpiresAtAfter(now);
+        synchronized (lock) {
+            Snapshot current = snapshot;
+            Snapshot next = new Snapshot(Math.max(expectedRevocations, 2 * (stored.size() + current.size())));
+            stored.forEach(next::add);
+            current.copyUnexpired(next, now);
+            snapshot = next;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocations.purge-interval}",
+            initialDelayString = "${jwt.revocations.purge-interval}")
+    @Transactional
+    public void purge() {
+        int purged = repository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired token revocations", purged);
+        }
+    }
+
+    int size() {
+        return snapshot.size();
+    }
+
+    private void afterCommit(TokenRevocation revocation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(revocation);
+                }
+            });
+        } else {
+            apply(revocation);
+        }
+    }
+
+    private void apply(TokenRevocation revocation) {
+        synchronized (lock) {
+            snapshot.add(revocation);
+        }
+    }
+
+    private static String userKey(Long userId) {
+        return "u" + userId;
+    }
+
+    private static String tokenKey(String tokenId) {
+        return "t" + tokenId;
+    }
+
+    private record UserRevocation(int minVersion, LocalDateTime expiresAt) {
+
+        UserRevocation merge(UserRevocation other) {
+            return new UserRevocation(Math.max(minVersion, other.minVersion),
+                    expiresAt.isAfter(other.expiresAt) ? expiresAt : other.expiresAt);
+        }
+    }
+
+    /** Added to under {@code lock}, read without it. */
+    private static final class Snapshot {
+
+        private final BloomFilter filter;
+        private final Map<Long, UserRevocation> users = new ConcurrentHashMap<>();
+        private final Map<String, TokenRevocation> tokens = new ConcurrentHashMap<>();
+
+        Snapshot(int expectedRevocations) {
+            this.filter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+        }
+
+        void add(TokenRevocation revocation) {
+            if (revocation.getTokenId() != null) {
+                tokens.put(revocation.getTokenId(), revocation);
+                filter.add(tokenKey(revocation.getTokenId()));
+            } else {
+                users.merge(revocation.getUserId(),
+                        new UserRevocation(revocation.getMinVersion(), revocation.getExpiresAt()), UserRevocation::merge);
+                filter.add(userKey(revocation.getUserId()));
+            }
+        }
+
+        boolean isRevoked(Long userId, int tokenVersion, String tokenId) {
+            if (userId != null && filter.mightContain(userKey(userId))) {
+                UserRevocation revocation = users.get(userId);
+                if (revocation != null && tokenVersion < revocation.minVersion()) {
+                    return true;
+                }
+            }
+            return tokenId != null && filter.mightContain(tokenKey(tokenId)) && tokens.containsKey(tokenId);
+        }
+
+        void copyUnexpired(Snapshot target, LocalDateTime now) {
+            users.forEach((userId, revocation) -> {
+                if (revocation.expiresAt().isAfter(now)) {
+                    target.add(TokenRevocation.builder()
+                            .userId(userId)
+                            .minVersion(revocation.minVersion())
+                            .expiresAt(revocation.expiresAt())
+                            .build());
+                }
+            });
+            tokens.values().stream()
+                    .filter(revocation -> revocation.getExpiresAt().isAfter(now))
+                    .forEach(target::add);
+        }
+
+        int size() {
+            return users.size() + tokens.size();
+        }
+    }
+}
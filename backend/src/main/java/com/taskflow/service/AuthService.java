@@ -5,16 +5,15 @@ import com.taskflow.entity.Role;
 import com.taskflow.entity.User;
 import com.taskflow.exception.DuplicateResourceException;
 import com.taskflow.repository.UserRepository;
+import com.taskflow.security.AuthenticatedUser;
 import com.taskflow.security.JwtService;
+import com.taskflow.security.PasswordVerifier;
+import com.taskflow.security.TokenRevocations;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -22,12 +21,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocations tokenRevocations;
 
-    @Transactional
+    /**
+     * Hashes the password on {@link PasswordVerifier}'s pool outside a transaction, as
+     * {@link #login} checks it, so no connection is held while BCrypt runs. The email is checked
+     * first so that a taken address costs no hashing.
+     */
     public AuthDto.AuthResponse register(AuthDto.RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new DuplicateResourceException("Email already registered: " + request.getEmail());
@@ -36,31 +39,69 @@ public class AuthService {
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordVerifier.encode(request.getPassword()))
                 .role(Role.USER)
                 .build();
 
         userRepository.save(user);
         log.info("New user registered: {}", user.getEmail());
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtService.generateToken(userDetails);
-
-        return new AuthDto.AuthResponse(token, user.getId(), user.getName(), user.getEmail(), user.getRole().name());
+        return authResponse(user, refreshTokenService.issue(user));
     }
 
+    /**
+     * Loads the user once and checks the password on {@link PasswordVerifier}'s pool, without a
+     * transaction so no connection is held while BCrypt runs. A hash of another cost is replaced
+     * once the password has matched.
+     */
     public AuthDto.AuthResponse login(AuthDto.LoginRequest request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
-
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow();
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        String hash = user == null ? null : user.getPassword();
+        if (!passwordVerifier.matches(request.getPassword(), hash)) {
+            throw new BadCredentialsException("Bad credentials");
+        }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtService.generateToken(userDetails);
+        if (passwordVerifier.needsRehash(hash)) {
+            user.setPassword(passwordVerifier.encode(request.getPassword()));
+            userRepository.save(user);
+            log.info("Rehashed password of {}", user.getEmail());
+        }
 
         log.info("User logged in: {}", user.getEmail());
-        return new AuthDto.AuthResponse(token, user.getId(), user.getName(), user.getEmail(), user.getRole().name());
+        return authResponse(user, refreshTokenService.issue(user));
+    }
+
+    /**
+     * Issues a new access token and the next refresh token, with the user's current role and token
+     * version.
+     */
+    public AuthDto.AuthResponse refresh(AuthDto.RefreshRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        return authResponse(rotation.user(), rotation.refreshToken());
+    }
+
+    /**
+     * Ends the session the refresh token belongs to and revokes the access token, if one is given and
+     * still valid. Unknown or expired tokens are ignored, so logging out twice is harmless.
+     */
+    public void logout(AuthDto.RefreshRequest request, String accessToken) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        if (accessToken == null) {
+            return;
+        }
+        try {
+            JwtService.VerifiedToken token = jwtService.verify(accessToken);
+            if (token.tokenId() != null && token.userId() != null) {
+                tokenRevocations.revokeToken(token.userId(), token.tokenId(), token.expiresAt());
+            }
+        } catch (JwtException ex) {
+            log.debug("Logout with an invalid access token: {}", ex.getMessage());
+        }
+    }
+
+    private AuthDto.AuthResponse authResponse(User user, String refreshToken) {
+        String token = jwtService.generateToken(AuthenticatedUser.of(user));
+        return new AuthDto.AuthResponse(token, jwtService.getExpiration() / 1000, refreshToken,
+                user.getId(), user.getName(), user.getEmail(), user.getRole().name());
     }
 }
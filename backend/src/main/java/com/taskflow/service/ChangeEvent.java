@@ -0,0 +1,62 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.ProjectDto;
+import com.taskflow.dto.TaskDto;
+
+import java.util.Map;
+
+/**
+ * A change pushed to the owner's open event streams once its transaction commits (see
+ * {@link ChangeEventBroker}). A null {@code projectId} reaches every stream of the owner: a task
+ * delete is a single conditional statement and never learns which project the task was in.
+ */
+public record ChangeEvent(Long ownerId, Long projectId, Type type, Object data) {
+
+    public enum Type {
+        TASK_CREATED("task-created"),
+        TASK_UPDATED("task-updated"),
+        TASK_DELETED("task-deleted"),
+        /** Too many changes to send one by one (bulk requests, imports); clients delta-sync instead. */
+        TASKS_CHANGED("tasks-changed"),
+        PROJECT_UPDATED("project-updated"),
+        PROJECT_DELETED("project-deleted");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String getEventName() {
+            return eventName;
+        }
+    }
+
+    public static ChangeEvent taskCreated(Long ownerId, TaskDto.Response task) {
+        return new ChangeEvent(ownerId, task.getProjectId(), Type.TASK_CREATED, task);
+    }
+
+    public static ChangeEvent taskUpdated(Long ownerId, TaskDto.Response task) {
+        return new ChangeEvent(ownerId, task.getProjectId(), Type.TASK_UPDATED, task);
+    }
+
+    public static ChangeEvent taskDeleted(Long ownerId, Long taskId) {
+        return new ChangeEvent(ownerId, null, Type.TASK_DELETED, Map.of("id", taskId));
+    }
+
+    public static ChangeEvent tasksChanged(Long ownerId, Long projectId) {
+        return new ChangeEvent(ownerId, projectId, Type.TASKS_CHANGED, Map.of("projectId", projectId));
+    }
+
+    public static ChangeEvent projectUpdated(Long ownerId, ProjectDto.Response project) {
+        return new ChangeEvent(ownerId, project.getId(), Type.PROJECT_UPDATED, project);
+    }
+
+    public static ChangeEvent projectDeleted(Long ownerId, Long projectId) {
+        return new ChangeEvent(ownerId, projectId, Type.PROJECT_DELETED, Map.of("id", projectId));
+    }
+
+    boolean concerns(Long streamProjectId) {
+        return projectId == null || projectId.equals(streamProjectId);
+    }
+}
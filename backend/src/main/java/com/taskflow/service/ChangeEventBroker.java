@@ -0,0 +1,410 @@
+package com.taskflow.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Pushes committed changes to open Server-Sent Event streams.
+ *
+ * <p>Streams are asynchronous requests, so an idle one holds no thread. Each owner with open streams
+ * has a channel that numbers its events and keeps the latest in a ring buffer, from which a client
+ * reconnecting with {@code Last-Event-ID} is sent what it missed. Each stream has a bounded queue
+ * written by a small dispatcher pool. A stream that falls too far behind has its queue dropped and
+ * receives a single {@code resync} event, telling the client to catch up through delta sync (see
+ * {@link TaskSyncService}). The same happens when the missed events are no longer buffered, for
+ * example after a restart or on another node.
+ *
+ * <p>Channels and streams are drained by at most one dispatcher thread at a time. The channel's
+ * state is only touched while it drains, so nothing here takes a lock.
+ */
+@Service
+@Slf4j
+public class ChangeEventBroker {
+
+    static final String READY = "ready";
+    static final String RESYNC = "resync";
+
+    // A channel, and the events it buffers, outlives its last stream for this long, so that a client
+    // whose connection dropped can resume instead of resyncing.
+    static final Duration LINGER = Duration.ofMinutes(5);
+
+    // Messages a worker sends before yielding its dispatcher thread to other channels and streams.
+    private static final int BATCH_SIZE = 64;
+
+    private static final String NO_DATA = "{}";
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("").build();
+    private static final Set<DataWithMediaType> RESYNC_MESSAGE = message(null, RESYNC, NO_DATA);
+
+    private final ObjectMapper objectMapper;
+    private final Executor dispatcher;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final int replayCapacity;
+    private final ConcurrentMap<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ChangeEventBroker(ObjectMapper objectMapper,
+                             @Value("${tasks.events.dispatch-threads}") int dispatchThreads,
+                             @Value("${tasks.events.timeout}") Duration timeout,
+                             @Value("${tasks.events.queue-capacity}") int queueCapacity,
+                             @Value("${tasks.events.replay-capacity}") int replayCapacity) {
+        this(objectMapper, Executors.newFixedThreadPool(dispatchThreads, new CustomizableThreadFactory("change-events-")),
+                timeout, queueCapacity, replayCapacity);
+    }
+
+    ChangeEventBroker(ObjectMapper objectMapper, Executor dispatcher, Duration timeout,
+                      int queueCapacity, int replayCapacity) {
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.timeoutMillis = timeout.toMillis();
+        this.queueCapacity = queueCapacity;
+        this.replayCapacity = replayCapacity;
+    }
+
+    /**
+     * Opens a stream of the changes to one of the owner's projects; the caller has checked that the
+     * project belongs to {@code ownerId}. The stream starts with the events missed since
+     * {@code lastEventId}, or with {@code resync} if they are no longer buffered, and then
+     * {@code ready}, whose id marks the current position.
+     */
+    public SseEmitter subscribe(Long ownerId, Long projectId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        subscribe(ownerId, projectId, lastEventId, emitter);
+        return emitter;
+    }
+
+    void subscribe(Long ownerId, Long projectId, String lastEventId, SseEmitter emitter) {
+        Subscription subscription = new Subscription(projectId, emitter);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        open(ownerId, subscription, lastEventId);
+    }
+
+    private void open(Long ownerId, Subscription subscription, String lastEventId) {
+        channels.computeIfAbsent(ownerId, Channel::new).submit(channel -> channel.open(subscription, lastEventId));
+    }
+
+    /** Owners without open streams (or a lingering channel) cost a map lookup. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(ChangeEvent event) {
+        Channel channel = channels.get(event.ownerId());
+        if (channel != null) {
+            channel.submit(target -> target.publish(event));
+        }
+    }
+
+    /**
+     * Keeps idle streams from being closed by proxies and detects clients that went away; also
+     * retires channels that have had no streams for {@link #LINGER}.
+     */
+    @Scheduled(fixedDelayString = "${tasks.events.heartbeat-interval}",
+            initialDelayString = "${tasks.events.heartbeat-interval}")
+    public void heartbeat() {
+        channels.values().forEach(channel -> channel.submit(Channel::heartbeat));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (dispatcher instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Set<DataWithMediaType> message(String id, String name, String data) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event();
+        if (id != null) {
+            event.id(id);
+        }
+        return event.name(name).data(data, MediaType.APPLICATION_JSON).build();
+    }
+
+    /** Runs {@link #drain()} on the dispatcher whenever there is work, never on two threads at once. */
+    private abstract class Worker {
+
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        final void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::run);
+                } catch (RejectedExecutionException ex) {
+                    // Shutting down
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void run() {
+            try {
+                drain();
+            } catch (RuntimeException ex) {
+                log.warn("Change event dispatch failed", ex);
+            } finally {
+                scheduled.set(false);
+            }
+            if (hasWork()) {
+                schedule();
+            }
+        }
+
+        /** Handles up to {@link #BATCH_SIZE} items. */
+        abstract void drain();
+
+        abstract boolean hasWork();
+    }
+
+    /** The events of one owner, and the streams they go to. */
+    private final class Channel extends Worker {
+
+        private final Long ownerId;
+        // Distinguishes this channel's event ids from those of earlier channels, other nodes and restarts.
+        private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+        private final Queue<Consumer<Channel>> mailbox = new ConcurrentLinkedQueue<>();
+
+        // Only used while draining
+        private final List<Subscription> subscriptions = new ArrayList<>();
+        private final Buffered[] buffered = new Buffered[replayCapacity];
+        private long sequence;
+        private long idleSince = System.nanoTime();
+        private boolean closed;
+
+        Channel(Long ownerId) {
+            this.ownerId = ownerId;
+        }
+
+        void submit(Consumer<Channel> command) {
+            mailbox.add(command);
+            schedule();
+        }
+
+        @Override
+        void drain() {
+            Consumer<Channel> command;
+            for (int i = 0; i < BATCH_SIZE && (command = mailbox.poll()) != null; i++) {
+                command.accept(this);
+            }
+        }
+
+        @Override
+        boolean hasWork() {
+            return !mailbox.isEmpty();
+        }
+
+        void open(Subscription subscription, String lastEventId) {
+            if (closed) {
+                // Retired after this subscription looked the channel up: open it on the current one.
+                ChangeEventBroker.this.open(ownerId, subscription, lastEventId);
+                return;
+            }
+            subscription.channel = this;
+            subscriptions.add(subscription);
+            if (!replay(subscription, lastEventId)) {
+                subscription.offer(RESYNC_MESSAGE);
+            }
+            subscription.offer(message(id(sequence), READY, NO_DATA));
+            // A close that ran before the channel was set above could not ask for removal.
+            if (subscription.closed.get()) {
+                remove(subscription);
+            }
+        }
+
+        private boolean replay(Subscription subscription, String lastEventId) {
+            if (lastEventId == null || lastEventId.isBlank()) {
+                return true;
+            }
+            int separator = lastEventId.indexOf('-');
+            if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+                return false;
+            }
+            long last;
+            try {
+                last = Long.parseLong(lastEventId.substring(separator + 1));
+            } catch (NumberFormatException ex) {
+                return false;
+            }
+            // Ids are client input: a negative position would index outside the ring.
+            if (last < 0 || last > sequence || last < sequence - buffered.length) {
+                return false;
+            }
+            for (long position = last + 1; position <= sequence; position++) {
+                Buffered event = buffered[slot(position)];
+                if (event == null) {
+                    return false;
+                }
+                if (event.event().concerns(subscription.projectId)) {
+                    subscription.offer(event.message());
+                }
+            }
+            return true;
+        }
+
+        void publish(ChangeEvent event) {
+            if (closed) {
+                return;
+            }
+            String data;
+            try {
+                data = objectMapper.writeValueAsString(event.data());
+            } catch (JsonProcessingException ex) {
+                log.warn("Could not serialize {} event", event.type().getEventName(), ex);
+                return;
+            }
+            // Serialized once for every stream it goes to.
+            Set<DataWithMediaType> message = message(id(++sequence), event.type().getEventName(), data);
+            buffered[slot(sequence)] = new Buffered(event, message);
+            for (Subscription subscription : subscriptions) {
+                if (event.concerns(subscription.projectId)) {
+                    subscription.offer(message);
+                    if (event.type() == ChangeEvent.Type.PROJECT_DELETED) {
+                        subscription.end();
+                    }
+                }
+            }
+        }
+
+        void remove(Subscription subscription) {
+            if (subscriptions.remove(subscription) && subscriptions.isEmpty()) {
+                idleSince = System.nanoTime();
+            }
+        }
+
+        void heartbeat() {
+            if (!subscriptions.isEmpty()) {
+                subscriptions.forEach(Subscription::heartbeat);
+            } else if (System.nanoTime() - idleSince > LINGER.toNanos()) {
+                closed = true;
+                channels.remove(ownerId, this);
+            }
+        }
+
+        private String id(long position) {
+            return epoch + "-" + position;
+        }
+
+        private int slot(long position) {
+            return (int) (position % buffered.length);
+        }
+    }
+
+    private record Buffered(ChangeEvent event, Set<DataWithMediaType> message) {
+    }
+
+    /** One open stream: the messages still to be written to it. */
+    private final class Subscription extends Worker {
+
+        private final Long projectId;
+        private final SseEmitter emitter;
+        // Unbounded queue with a bounded count: costs nothing while a stream is idle.
+        private final Queue<Set<DataWithMediaType>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        // Set outside the queue, so that a stream at capacity is still completed.
+        private final AtomicBoolean ended = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Channel channel;
+
+        Subscription(Long projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> message) {
+            if (size.incrementAndGet() > queueCapacity) {
+                size.decrementAndGet();
+                overflowed.set(true);
+            } else {
+                pending.add(message);
+            }
+            schedule();
+        }
+
+        /** Completes the stream once everything queued before is sent. */
+        void end() {
+            ended.set(true);
+            schedule();
+        }
+
+        void heartbeat() {
+            if (size.get() == 0) {
+                offer(HEARTBEAT);
+            }
+        }
+
+        @Override
+        void drain() {
+            for (int i = 0; i < BATCH_SIZE && !closed.get(); i++) {
+                Set<DataWithMediaType> message;
+                if (overflowed.getAndSet(false)) {
+                    // Everything queued is superseded by the delta sync the client will run.
+                    while (pending.poll() != null) {
+                        size.decrementAndGet();
+                    }
+                    message = RESYNC_MESSAGE;
+                } else {
+                    message = pending.poll();
+                    if (message == null) {
+                        if (ended.get()) {
+                            close();
+                            emitter.complete();
+                        }
+                        return;
+                    }
+                    size.decrementAndGet();
+                }
+                try {
+                    emitter.send(message);
+                } catch (IOException | IllegalStateException ex) {
+                    // The client went away or the stream completed meanwhile.
+                    close();
+                    emitter.completeWithError(ex);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        boolean hasWork() {
+            return !closed.get() && (size.get() > 0 || overflowed.get() || ended.get());
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                Channel current = channel;
+                if (current != null) {
+                    current.submit(target -> target.remove(this));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.ProjectDto;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.dto.UserDto;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.exception.PreconditionFailedException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Weak entity tags for task and project representations. The tag of a single resource starts
+ * with its row version, which is what {@code If-Match} is checked against; the rest covers data the
+ * representation shows but the version does not track (a project's task count and owner). List
+ * tags are built from an aggregate query, so they are known before any row is loaded.
+ * <p>
+ * The tags are weak because they identify the data, not the bytes: Tomcat does not compress a
+ * response that carries a strong tag, and a gzipped body is a different byte sequence anyway.
+ */
+public final class ETags {
+
+    private static final String SEPARATOR = ".";
+    private static final String WEAK = "W/";
+
+    private ETags() {
+    }
+
+    public static String of(TaskDto.Response task) {
+        return quote(task.getVersion());
+    }
+
+    public static String of(ProjectDto.Response project) {
+        return quote(project.getVersion(), project.getTaskCount(), fingerprint(project.getOwner()));
+    }
+
+    static String quote(Object... parts) {
+        return Arrays.stream(parts)
+                .map(ETags::format)
+                .collect(Collectors.joining(SEPARATOR, WEAK + "\"", "\""));
+    }
+
+    static String fingerprint(UserDto.Response user) {
+        return Integer.toHexString(Objects.hash(user.getName(), user.getEmail(), user.getRole()));
+    }
+
+    /**
+     * Version an {@code If-Match} header requires, or null when there is no header or it is
+     * {@code *}. The tags sent are weak, so the {@code W/} prefix is accepted; the version it carries
+     * is still compared exactly. A tag that cannot match the current version fails the precondition.
+     */
+    public static Long requiredVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String tag = opaque(ifMatch.strip());
+        if (tag.contains(",")) {
+            throw new BadRequestException("If-Match must be a single entity tag or *");
+        }
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match does not match the current version");
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        int end = value.indexOf(SEPARATOR);
+        try {
+            return Long.valueOf(end < 0 ? value : value.substring(0, end));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("If-Match does not match the current version");
+        }
+    }
+
+    /** Rejects the write if the client asked for a version other than the current one. */
+    static void checkVersion(Long currentVersion, Long requiredVersion) {
+        if (requiredVersion != null && !requiredVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException(
+                    "Version " + requiredVersion + " is out of date; the current version is " + currentVersion);
+        }
+    }
+
+    /**
+     * The tag of the same data in another encoding. Its last part names the format, so the tags of a
+     * JSON and a CBOR body differ while the version still leads for {@code If-Match}.
+     */
+    public static String inFormat(String tag, String format) {
+        return tag.substring(0, tag.length() - 1) + SEPARATOR + format + "\"";
+    }
+
+    /** The tag without its weakness indicator, for comparing tags. */
+    public static String opaque(String tag) {
+        return tag.startsWith(WEAK) ? tag.substring(WEAK.length()) : tag;
+    }
+
+    private static String format(Object part) {
+        if (part instanceof LocalDateTime time) {
+            return Long.toString(time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano(), 36);
+        }
+        return String.valueOf(part);
+    }
+}
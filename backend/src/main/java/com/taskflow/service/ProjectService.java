@@ -1,56 +1,80 @@
 package com.taskflow.service;
 
+import com.taskflow.config.MetricsConfig;
 import com.taskflow.dto.ProjectDto;
+import com.taskflow.dto.UserDto;
 import com.taskflow.entity.Project;
 import com.taskflow.entity.User;
+import com.taskflow.exception.PreconditionFailedException;
 import com.taskflow.exception.ResourceNotFoundException;
 import com.taskflow.exception.UnauthorizedException;
 import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
 import com.taskflow.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public List<ProjectDto.Response> findAll() {
-        return projectRepository.findAll().stream()
-                .map(this::toResponse)
-                .toList();
+        return toResponses(projectRepository.findAll(), taskRepository.countGroupedByProject());
     }
 
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public List<ProjectDto.Response> findByOwner(Long ownerId) {
-        return projectRepository.findByOwnerIdOrderByCreatedAtDesc(ownerId).stream()
-                .map(this::toResponse)
-                .toList();
+        return toResponses(projectRepository.findByOwnerIdOrderByCreatedAtDesc(ownerId),
+                taskRepository.countGroupedByProjectForOwner(ownerId));
     }
 
+    /**
+     * ETag of an owner's project list, from one aggregate query over the projects and their tasks
+     * plus the owner's cached entity; nothing of the list itself is loaded.
+     */
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public String ownerListETag(Long ownerId) {
+        ProjectRepository.ChangeSummary summary = projectRepository.summarizeByOwnerId(ownerId);
+        UserDto.Response owner = userService.findById(ownerId);
+        return ETags.quote(summary.getCount(), summary.getVersionSum(), summary.getLastUpdated(),
+                summary.getTaskCount(), summary.getLastTaskCreated(), ETags.fingerprint(owner));
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public List<ProjectDto.Response> findByOwnerEmail(String email) {
         User owner = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
-        return projectRepository.findByOwnerIdOrderByCreatedAtDesc(owner.getId()).stream()
-                .map(this::toResponse)
-                .toList();
+        return findByOwner(owner.getId());
     }
 
+    // A second-level cache hit skips the owner entity graph; the owner is then resolved from the
+    // cache as well, which needs an open session.
+    @Transactional(readOnly = true)
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public ProjectDto.Response findById(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", id));
-        return toResponse(project);
+        return toResponse(project, taskRepository.countByProjectId(id));
     }
 
     @Transactional
-    public ProjectDto.Response create(ProjectDto.Request request, String ownerEmail) {
-        User owner = userRepository.findByEmail(ownerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + ownerEmail));
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public ProjectDto.Response create(ProjectDto.Request request, Long ownerId) {
+        User owner = userService.findUserById(ownerId);
 
         Project project = Project.builder()
                 .name(request.getName())
@@ -58,40 +82,76 @@ public class ProjectService {
                 .owner(owner)
                 .build();
 
-        return toResponse(projectRepository.save(project));
+        return toResponse(projectRepository.save(project), 0);
     }
 
+    /**
+     * Updates the project; a non-null {@code requiredVersion} (from {@code If-Match}) must equal the
+     * current version. Flushed before mapping so the response carries the incremented version.
+     */
     @Transactional
-    public ProjectDto.Response update(Long id, ProjectDto.Request request, String currentUserEmail) {
-        Project project = getProjectAndValidateOwner(id, currentUserEmail);
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public ProjectDto.Response update(Long id, ProjectDto.Request request, Long currentUserId, Long requiredVersion) {
+        Project project = getProjectAndValidateOwner(id, currentUserId);
+        ETags.checkVersion(project.getVersion(), requiredVersion);
         project.setName(request.getName());
         project.setDescription(request.getDescription());
-        return toResponse(projectRepository.save(project));
+        ProjectDto.Response response = toResponse(projectRepository.saveAndFlush(project), taskRepository.countByProjectId(id));
+        eventPublisher.publishEvent(ChangeEvent.projectUpdated(currentUserId, response));
+        return response;
     }
 
     @Transactional
-    public void delete(Long id, String currentUserEmail) {
-        getProjectAndValidateOwner(id, currentUserEmail);
-        projectRepository.deleteById(id);
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public void delete(Long id, Long currentUserId, Long requiredVersion) {
+        // The tasks are deleted with their own statement rather than by the foreign key cascade, so
+        // Hibernate knows they are gone. It cannot tell which rows a bulk statement removed, so it
+        // clears the whole task and project cache regions, for every user. Project deletes are rare
+        // and remove any number of tasks, so that is cheaper than loading and removing each task as
+        // task deletes do. If the project itself is not deleted, the exception below rolls the task
+        // delete back.
+        taskRepository.deleteByProjectIdAndOwnerId(id, currentUserId);
+        if (projectRepository.deleteByIdAndOwnerId(id, currentUserId, requiredVersion) == 0) {
+            Long ownerId = projectRepository.findOwnerIdById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Project", id));
+            if (!ownerId.equals(currentUserId)) {
+                throw new UnauthorizedException("You don't have permission to modify this project");
+            }
+            throw new PreconditionFailedException("Project " + id + " is no longer at version " + requiredVersion);
+        }
+        eventPublisher.publishEvent(ChangeEvent.projectDeleted(currentUserId, id));
     }
 
-    private Project getProjectAndValidateOwner(Long id, String currentUserEmail) {
+    // The owner id is the owner_id column of the loaded row, so the check itself runs no query.
+    private Project getProjectAndValidateOwner(Long id, Long currentUserId) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", id));
-        if (!project.getOwner().getEmail().equals(currentUserEmail)) {
+        if (!project.getOwner().getId().equals(currentUserId)) {
             throw new UnauthorizedException("You don't have permission to modify this project");
         }
         return project;
     }
 
-    public ProjectDto.Response toResponse(Project project) {
+    private List<ProjectDto.Response> toResponses(List<Project> projects,
+                                                  List<TaskRepository.ProjectTaskCount> taskCounts) {
+        Map<Long, Long> countsByProject = taskCounts.stream()
+                .collect(Collectors.toMap(TaskRepository.ProjectTaskCount::getProjectId,
+                        TaskRepository.ProjectTaskCount::getTaskCount));
+        return projects.stream()
+                .map(project -> toResponse(project, countsByProject.getOrDefault(project.getId(), 0L)))
+                .toList();
+    }
+
+    public ProjectDto.Response toResponse(Project project, long taskCount) {
         ProjectDto.Response response = new ProjectDto.Response();
         response.setId(project.getId());
         response.setName(project.getName());
         response.setDescription(project.getDescription());
         response.setOwner(userService.toResponse(project.getOwner()));
         response.setCreatedAt(project.getCreatedAt());
-        response.setTaskCount(project.getTasks() != null ? project.getTasks().size() : 0);
+        response.setUpdatedAt(project.getUpdatedAt());
+        response.setVersion(project.getVersion());
+        response.setTaskCount(Math.toIntExact(taskCount));
         return response;
     }
 }
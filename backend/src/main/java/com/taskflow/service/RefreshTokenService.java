@@ -0,0 +1,113 @@
+package com.taskflow.service;
+
+import com.taskflow.entity.RefreshToken;
+import com.taskflow.entity.User;
+import com.taskflow.exception.InvalidTokenException;
+import com.taskflow.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Opaque refresh tokens, stored as their SHA-256 only. Every refresh uses up the presented token and
+ * issues the next one of its family (the tokens descending from one login). A used token presented
+ * again means it was copied: the whole family is deleted, logging out both the thief and the user.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final String INVALID = "Invalid or expired refresh token; log in again";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration ttl;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh-token.ttl}") Duration ttl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.ttl = ttl;
+    }
+
+    /** Starts a new family, on login or registration. */
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for the next one of its family.
+     *
+     * @throws InvalidTokenException if the token is unknown, expired or already used; in the last
+     *                               case its family has been deleted when this returns
+     */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public Rotation rotate(String token) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(token))
+                .orElseThrow(() -> new InvalidTokenException(INVALID));
+        LocalDateTime now = LocalDateTime.now();
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw new InvalidTokenException(INVALID);
+        }
+        if (refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+            refreshTokenRepository.deleteByFamilyId(current.getFamilyId());
+            log.warn("Refresh token of user {} was reused; logged out its family", current.getUser().getId());
+            throw new InvalidTokenException(INVALID);
+        }
+        User user = current.getUser();
+        return new Rotation(user, issue(user, current.getFamilyId()));
+    }
+
+    /** Deletes the token's family, on logout. Unknown tokens are ignored. */
+    @Transactional
+    public void revoke(String token) {
+        refreshTokenRepository.findByTokenHash(hash(token))
+                .ifPresent(current -> refreshTokenRepository.deleteByFamilyId(current.getFamilyId()));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge-interval}",
+            initialDelayString = "${jwt.refresh-token.purge-interval}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private String issue(User user, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(token))
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build());
+        return token;
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record Rotation(User user, String refreshToken) {}
+}
@@ -0,0 +1,43 @@
+package com.taskflow.service;
+
+import com.taskflow.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque delta-sync position: the (change_xid, id) of the last change a client received, and when
+ * the token was issued, which tells whether tombstones the client still needs may have been purged.
+ */
+record SyncToken(long changeXid, long id, Instant issuedAt) {
+
+    private static final String SEPARATOR = "|";
+
+    /** Position before every change; rows that predate change tracking have change_xid 0. */
+    static SyncToken start(Instant issuedAt) {
+        return new SyncToken(-1, 0, issuedAt);
+    }
+
+    String encode() {
+        String raw = changeXid + SEPARATOR + id + SEPARATOR + issuedAt.getEpochSecond();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid sync token: " + token);
+            }
+            return new SyncToken(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                    Instant.ofEpochSecond(Long.parseLong(parts[2])));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid sync token: " + token);
+        }
+    }
+}
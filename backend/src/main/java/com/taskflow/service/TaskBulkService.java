@@ -0,0 +1,201 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskDto;
+import com.taskflow.dto.TaskDto.BulkOperation;
+import com.taskflow.dto.TaskDto.BulkResult;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.exception.PreconditionFailedException;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.exception.UnauthorizedException;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies many task operations in one transaction. Referenced projects and tasks are loaded up front
+ * in one statement each, ownership is decided once per distinct project, and writes are left to
+ * Hibernate's JDBC batching ({@code hibernate.jdbc.batch_size}); deletes go out as a single statement.
+ * Operations that fail (unknown ids, foreign projects, stale versions) are reported per item and do not affect the rest.
+ * Open event streams get one {@code tasks-changed} event per project touched rather than one per task.
+ */
+@Service
+public class TaskBulkService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskService taskService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxOperations;
+
+    public TaskBulkService(TaskRepository taskRepository,
+                           ProjectRepository projectRepository,
+                           TaskService taskService,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${tasks.bulk.max-operations}") int maxOperations) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.taskService = taskService;
+        this.eventPublisher = eventPublisher;
+        this.maxOperations = maxOperations;
+    }
+
+    @Transactional
+    public TaskDto.BulkResponse apply(TaskDto.BulkRequest request, Long currentUserId) {
+        List<TaskDto.Request> creates = orEmpty(request.getCreate());
+        List<TaskDto.BulkUpdate> updates = orEmpty(request.getUpdate());
+        List<Long> deletes = orEmpty(request.getDelete());
+
+        int total = creates.size() + updates.size() + deletes.size();
+        if (total == 0) {
+            throw new BadRequestException("At least one operation is required");
+        }
+        if (total > maxOperations) {
+            throw new BadRequestException("A bulk request cannot exceed " + maxOperations + " operations");
+        }
+
+        Set<Long> taskIds = new HashSet<>(deletes);
+        updates.forEach(update -> taskIds.add(update.getId()));
+        Map<Long, Task> tasks = taskIds.isEmpty() ? Map.of() : byId(taskRepository.findByIdIn(taskIds), Task::getId);
+
+        Set<Long> projectIds = creates.stream().map(TaskDto.Request::getProjectId).collect(Collectors.toSet());
+        Map<Long, Project> projects = projectIds.isEmpty() ? Map.of() : byId(projectRepository.findByIdIn(projectIds), Project::getId);
+
+        Ownership ownership = new Ownership(currentUserId);
+        List<BulkResult> results = new ArrayList<>(total);
+        Set<Long> changedProjects = new HashSet<>();
+
+        Map<BulkResult, Task> updated = new IdentityHashMap<>();
+        for (int i = 0; i < updates.size(); i++) {
+            TaskDto.BulkUpdate update = updates.get(i);
+            try {
+                Task task = ownedTask(tasks, update.getId(), ownership);
+                ETags.checkVersion(task.getVersion(), update.getVersion());
+                task.setTitle(update.getTitle());
+                task.setDescription(update.getDescription());
+                task.setStatus(update.getStatus());
+                task.setPriority(update.getPriority());
+                task.setDueDate(update.getDueDate());
+                changedProjects.add(task.getProject().getId());
+                BulkResult result = new BulkResult(BulkOperation.UPDATE, i, task.getId(), HttpStatus.OK.value(), null, null);
+                updated.put(result, task);
+                results.add(result);
+            } catch (RuntimeException ex) {
+                results.add(failure(BulkOperation.UPDATE, i, update.getId(), ex));
+            }
+        }
+
+        // Removed as entities so only these tasks and their projects' task lists leave the cache; a
+        // bulk DELETE statement would clear the whole task region. The deletes are JDBC-batched.
+        Map<Long, Task> toDelete = new LinkedHashMap<>();
+        for (int i = 0; i < deletes.size(); i++) {
+            Long id = deletes.get(i);
+            try {
+                Task task = ownedTask(tasks, id, ownership);
+                changedProjects.add(task.getProject().getId());
+                toDelete.put(id, task);
+                results.add(new BulkResult(BulkOperation.DELETE, i, id, HttpStatus.NO_CONTENT.value(), null, null));
+            } catch (RuntimeException ex) {
+                results.add(failure(BulkOperation.DELETE, i, id, ex));
+            }
+        }
+        if (!toDelete.isEmpty()) {
+            taskRepository.deleteAll(toDelete.values());
+        }
+
+        List<Task> created = new ArrayList<>();
+        List<BulkResult> createdResults = new ArrayList<>();
+        for (int i = 0; i < creates.size(); i++) {
+            TaskDto.Request create = creates.get(i);
+            try {
+                Project project = Optional.ofNullable(projects.get(create.getProjectId()))
+                        .orElseThrow(() -> new ResourceNotFoundException("Project", create.getProjectId()));
+                if (!ownership.owns(project)) {
+                    throw new UnauthorizedException("You don't have permission to add tasks to this project");
+                }
+                created.add(Task.builder()
+                        .title(create.getTitle())
+                        .description(create.getDescription())
+                        .status(create.getStatus())
+                        .priority(create.getPriority())
+                        .dueDate(create.getDueDate())
+                        .project(project)
+                        .build());
+                changedProjects.add(project.getId());
+                BulkResult result = new BulkResult(BulkOperation.CREATE, i, null, HttpStatus.CREATED.value(), null, null);
+                createdResults.add(result);
+                results.add(result);
+            } catch (RuntimeException ex) {
+                results.add(failure(BulkOperation.CREATE, i, null, ex));
+            }
+        }
+        taskRepository.saveAll(created);
+        // Responses are mapped once the batches are written, so they carry the new versions.
+        taskRepository.flush();
+        for (int i = 0; i < created.size(); i++) {
+            createdResults.get(i).setId(created.get(i).getId());
+            createdResults.get(i).setTask(taskService.toResponse(created.get(i)));
+        }
+        updated.forEach((result, task) -> result.setTask(taskService.toResponse(task)));
+        changedProjects.forEach(projectId -> eventPublisher.publishEvent(ChangeEvent.tasksChanged(currentUserId, projectId)));
+
+        int failed = (int) results.stream().filter(result -> result.getError() != null).count();
+        return new TaskDto.BulkResponse(total - failed, failed, results);
+    }
+
+    private Task ownedTask(Map<Long, Task> tasks, Long id, Ownership ownership) {
+        Task task = Optional.ofNullable(tasks.get(id)).orElseThrow(() -> new ResourceNotFoundException("Task", id));
+        if (!ownership.owns(task.getProject())) {
+            throw new UnauthorizedException("You don't have permission to modify this task");
+        }
+        return task;
+    }
+
+    private static BulkResult failure(BulkOperation operation, int index, Long id, RuntimeException ex) {
+        HttpStatus status;
+        if (ex instanceof ResourceNotFoundException) {
+            status = HttpStatus.NOT_FOUND;
+        } else if (ex instanceof UnauthorizedException) {
+            status = HttpStatus.FORBIDDEN;
+        } else if (ex instanceof PreconditionFailedException) {
+            status = HttpStatus.PRECONDITION_FAILED;
+        } else {
+            throw ex;
+        }
+        return new BulkResult(operation, index, id, status.value(), ex.getMessage(), null);
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+
+    private static <T> Map<Long, T> byId(List<T> entities, Function<T, Long> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    /**
+     * Ownership decisions, made once per distinct project. Only the owner's id is compared, which
+     * Hibernate takes from the owner_id column without loading the user.
+     */
+    private static final class Ownership {
+        private final Long userId;
+        private final Map<Long, Boolean> decisions = new HashMap<>();
+
+        Ownership(Long userId) {
+            this.userId = userId;
+        }
+
+        boolean owns(Project project) {
+            return decisions.computeIfAbsent(project.getId(), id -> project.getOwner().getId().equals(userId));
+        }
+    }
+}
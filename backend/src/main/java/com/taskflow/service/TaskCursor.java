@@ -0,0 +1,73 @@
+package com.taskflow.service;
+
+import com.taskflow.entity.Task;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.repository.TaskKeyset;
+import com.taskflow.repository.TaskSort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Opaque keyset cursor: the sort it was issued for, the id of the last task returned and
+ * that task's sort key value. A cursor is only valid with the sort it was issued for.
+ */
+final class TaskCursor {
+
+    private static final String SEPARATOR = "|";
+    private static final String NULL_VALUE = "-";
+    private static final String VALUE_PREFIX = "=";
+
+    private TaskCursor() {
+    }
+
+    static String encode(Task task, TaskSort sort) {
+        Object value = switch (sort.key()) {
+            case CREATED_AT -> task.getCreatedAt();
+            case DUE_DATE -> task.getDueDate();
+            case TITLE -> task.getTitle();
+        };
+        String raw = sortToken(sort) + SEPARATOR + task.getId() + SEPARATOR
+                + (value == null ? NULL_VALUE : VALUE_PREFIX + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TaskKeyset decode(String cursor, TaskSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, 3);
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+            if (!parts[0].equals(sortToken(sort))) {
+                throw new BadRequestException("Cursor was issued for a different sort order");
+            }
+            Long id = Long.parseLong(parts[1]);
+            if (parts[2].equals(NULL_VALUE)) {
+                return new TaskKeyset(null, id);
+            }
+            if (!parts[2].startsWith(VALUE_PREFIX)) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+            String value = parts[2].substring(VALUE_PREFIX.length());
+            return new TaskKeyset(switch (sort.key()) {
+                case CREATED_AT -> LocalDateTime.parse(value);
+                case DUE_DATE -> LocalDate.parse(value);
+                case TITLE -> value;
+            }, id);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static String sortToken(TaskSort sort) {
+        return sort.key().property() + "," + sort.direction().name().toLowerCase(Locale.ROOT);
+    }
+}
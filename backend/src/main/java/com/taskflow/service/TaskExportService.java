@@ -0,0 +1,117 @@
+package com.taskflow.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.Task;
+import com.taskflow.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes all tasks of a project straight from a database cursor to an output stream. Each row is
+ * mapped, written and detached before the next one is read, so memory use does not grow with the
+ * size of the project.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private static final String[] CSV_HEADER =
+            {"id", "title", "description", "status", "priority", "dueDate", "projectId", "createdAt"};
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public void export(Long projectId, TaskFileFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // Rows are hydrated as the stream is read, after the query's own cache mode has been reset,
+        // so the session has to skip the second-level cache for as long as the export runs.
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try (Stream<Task> tasks = taskRepository.streamByProjectId(projectId)) {
+            if (format == TaskFileFormat.CSV) {
+                writeCsv(tasks.iterator(), writer);
+            } else {
+                writeNdjson(tasks.iterator(), writer);
+            }
+        } finally {
+            session.setCacheMode(cacheMode);
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<Task> tasks, Writer writer) throws IOException {
+        boolean empty = !tasks.hasNext();
+        try (SequenceWriter rows = objectMapper.writerFor(TaskDto.Response.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(writer)) {
+            while (tasks.hasNext()) {
+                rows.write(toRow(tasks.next()));
+            }
+        }
+        if (!empty) {
+            writer.write('\n');
+        }
+    }
+
+    private void writeCsv(Iterator<Task> tasks, Writer writer) throws IOException {
+        writeCsvLine(writer, (Object[]) CSV_HEADER);
+        while (tasks.hasNext()) {
+            TaskDto.Response row = toRow(tasks.next());
+            writeCsvLine(writer, row.getId(), row.getTitle(), row.getDescription(), row.getStatus(),
+                    row.getPriority(), row.getDueDate(), row.getProjectId(), row.getCreatedAt());
+        }
+    }
+
+    private TaskDto.Response toRow(Task task) {
+        TaskDto.Response row = taskService.toResponse(task);
+        entityManager.detach(task);
+        return row;
+    }
+
+    private static void writeCsvLine(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(csvField(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 quoting. Text that a spreadsheet would evaluate as a formula is prefixed with a quote.
+     */
+    static String csvField(String value) {
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
@@ -0,0 +1,42 @@
+package com.taskflow.service;
+
+import com.taskflow.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+/** Line-oriented formats for task exports and imports. */
+public enum TaskFileFormat {
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    TaskFileFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static TaskFileFormat fromParameter(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unsupported task file format: " + value));
+    }
+
+    public static TaskFileFormat fromMediaType(MediaType mediaType) {
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.isCompatibleWith(mediaType))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unsupported task file type: " + mediaType));
+    }
+}
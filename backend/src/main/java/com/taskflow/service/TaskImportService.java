@@ -0,0 +1,347 @@
+package com.taskflow.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.repository.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Loads tasks into a project from a CSV or NDJSON stream. Rows are parsed and validated one at a time
+ * with the rules of {@link TaskDto.Request}; invalid rows are reported and skipped. On PostgreSQL the
+ * valid rows are sent with {@code COPY ... FROM STDIN} into a temporary staging table and moved into
+ * {@code tasks} with one {@code INSERT ... SELECT}; other databases fall back to batched JPA inserts.
+ * The whole import is one transaction. COPY bypasses Hibernate, so the project's cached task
+ * collection is evicted once the import commits.
+ */
+@Service
+@Slf4j
+public class TaskImportService {
+
+    static final int PROGRESS_INTERVAL = 50_000;
+
+    private final ProjectRepository projectRepository;
+    private final DataSource dataSource;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TaskImportService(ProjectRepository projectRepository,
+                             DataSource dataSource,
+                             Validator validator,
+                             ApplicationEventPublisher eventPublisher,
+                             ObjectMapper objectMapper,
+                             @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize,
+                             @Value("${tasks.import.max-reported-errors}") int maxReportedErrors) {
+        this.projectRepository = projectRepository;
+        this.dataSource = dataSource;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.ndjsonReader = objectMapper.readerFor(TaskDto.Request.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.csvReader = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build()
+                .readerFor(TaskDto.Request.class)
+                .with(CsvSchema.emptySchema().withHeader());
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /** Callbacks for callers that want to report while an import runs. */
+    public interface ImportListener {
+        ImportListener NONE = new ImportListener() {};
+
+        default void onProgress(long rowsRead) {}
+
+        default void onRejected(TaskDto.ImportError error) {}
+    }
+
+    @Transactional
+    public TaskDto.ImportResult importTasks(Long projectId, TaskFileFormat format, InputStream in,
+                                            ImportListener listener) throws IOException {
+        Long ownerId = projectRepository.findOwnerIdById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", projectId));
+        long started = System.nanoTime();
+        List<TaskDto.ImportError> errors = new ArrayList<>();
+        long rows = 0;
+        long rejected = 0;
+        long imported;
+
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        ObjectReader rowReader = format == TaskFileFormat.CSV ? csvReader : ndjsonReader;
+        try (MappingIterator<TaskDto.Request> requests = rowReader.readValues(reader);
+             RowSink sink = openSink(projectId)) {
+            while (hasNext(requests, rows + 1)) {
+                rows++;
+                String problem;
+                try {
+                    TaskDto.Request request = requests.nextValue();
+                    request.setProjectId(projectId);
+                    problem = validate(request);
+                    if (problem == null) {
+                        sink.add(request);
+                    }
+                } catch (JsonParseException ex) {
+                    throw malformed(rows, ex);
+                } catch (JsonMappingException ex) {
+                    problem = describe(ex);
+                }
+                if (problem != null) {
+                    rejected++;
+                    TaskDto.ImportError error = new TaskDto.ImportError(rows, problem);
+                    if (errors.size() < maxReportedErrors) {
+                        errors.add(error);
+                    }
+                    listener.onRejected(error);
+                }
+                if (rows % PROGRESS_INTERVAL == 0) {
+                    listener.onProgress(rows);
+                }
+            }
+            imported = sink.finish();
+            if (sink instanceof CopySink) {
+                evictProjectTasksAfterCommit(projectId);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Task import failed", ex);
+        }
+
+        if (imported > 0) {
+            eventPublisher.publishEvent(ChangeEvent.tasksChanged(ownerId, projectId));
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        long rowsPerSecond = imported * 1000 / elapsedMillis;
+        log.info("Imported {} tasks into project {} ({} rejected) in {} ms, {} rows/s",
+                imported, projectId, rejected, elapsedMillis, rowsPerSecond);
+        return new TaskDto.ImportResult(imported, rejected, errors, elapsedMillis, rowsPerSecond);
+    }
+
+    private void evictProjectTasksAfterCommit(Long projectId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache()
+                        .evictCollectionData(Project.class.getName() + ".tasks", projectId);
+            }
+        });
+    }
+
+    private static boolean hasNext(MappingIterator<?> requests, long row) throws IOException {
+        try {
+            return requests.hasNextValue();
+        } catch (JsonParseException ex) {
+            throw malformed(row, ex);
+        }
+    }
+
+    private static BadRequestException malformed(long row, JsonParseException ex) {
+        return new BadRequestException("Malformed input at row " + row + ": " + ex.getOriginalMessage());
+    }
+
+    private String validate(TaskDto.Request request) {
+        var violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining("; "));
+    }
+
+    private static String describe(JsonMappingException ex) {
+        String field = ex.getPath().stream()
+                .map(JsonMappingException.Reference::getFieldName)
+                .filter(name -> name != null)
+                .collect(Collectors.joining("."));
+        return field.isEmpty() ? "Unreadable row" : "Invalid value for " + field;
+    }
+
+    private RowSink openSink(Long projectId) throws SQLException, IOException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        if (connection.isWrapperFor(PGConnection.class)) {
+            return new CopySink(connection, projectId);
+        }
+        return new JpaSink(projectId);
+    }
+
+    private interface RowSink extends Closeable {
+        void add(TaskDto.Request request) throws IOException;
+
+        /** Writes any pending rows and returns how many were inserted. */
+        long finish() throws IOException, SQLException;
+    }
+
+    /** Streams rows into a temporary table with COPY, then inserts them into tasks in one statement. */
+    private static final class CopySink implements RowSink {
+        private final Connection connection;
+        private final Long projectId;
+        private final PGCopyOutputStream copy;
+        private final Writer writer;
+        private boolean finished;
+
+        CopySink(Connection connection, Long projectId) throws SQLException {
+            this.connection = connection;
+            this.projectId = projectId;
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        CREATE TEMPORARY TABLE task_import (
+                            title VARCHAR(200), description TEXT, status VARCHAR(20),
+                            priority VARCHAR(10), due_date DATE
+                        ) ON COMMIT DROP
+                        """);
+            }
+            this.copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class),
+                    "COPY task_import (title, description, status, priority, due_date) FROM STDIN WITH (FORMAT csv)",
+                    1 << 16);
+            this.writer = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), 1 << 16);
+        }
+
+        @Override
+        public void add(TaskDto.Request request) throws IOException {
+            writeField(request.getTitle());
+            writer.write(',');
+            writeField(request.getDescription());
+            writer.write(',');
+            writer.write(request.getStatus().name());
+            writer.write(',');
+            writer.write(request.getPriority().name());
+            writer.write(',');
+            if (request.getDueDate() != null) {
+                writer.write(request.getDueDate().toString());
+            }
+            writer.write('\n');
+        }
+
+        // In COPY's CSV format an unquoted empty field is NULL, so every non-null text value is quoted.
+        private void writeField(String value) throws IOException {
+            if (value != null) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            }
+        }
+
+        @Override
+        public long finish() throws IOException, SQLException {
+            writer.close();
+            finished = true;
+            // The id default would call nextval per row, and with the sequence stepping by the
+            // allocation size every row would burn a whole block. Instead take one nextval per block
+            // and number the rows inside it the way Hibernate's pooled optimizer does: a value hi
+            // covers hi - size + 1 .. hi, except below the increment, where it covers hi .. hi + size - 1.
+            try (PreparedStatement insert = connection.prepareStatement("""
+                    WITH numbered AS (
+                        SELECT *, row_number() OVER () - 1 AS n FROM task_import
+                    ), blocks AS MATERIALIZED (
+                        SELECT block, nextval('tasks_id_seq') AS hi
+                        FROM generate_series(0, ((SELECT count(*) FROM task_import) + %1$d - 1) / %1$d - 1) AS block
+                    )
+                    INSERT INTO tasks (id, title, description, status, priority, due_date, project_id)
+                    SELECT CASE WHEN b.hi < %1$d THEN b.hi ELSE b.hi - %1$d + 1 END + mod(r.n, %1$d),
+                           r.title, r.description, r.status, r.priority, r.due_date, ?
+                    FROM numbered r JOIN blocks b ON b.block = r.n / %1$d
+                    """.formatted(Task.ID_ALLOCATION_SIZE))) {
+                insert.setLong(1, projectId);
+                return insert.executeUpdate();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!finished && copy.isActive()) {
+                try {
+                    copy.cancelCopy();
+                } catch (SQLException ex) {
+                    throw new IOException("Could not cancel COPY", ex);
+                }
+            }
+        }
+    }
+
+    /** Fallback for databases without COPY: batched JPA inserts, clearing the session per batch. */
+    private final class JpaSink implements RowSink {
+        private final Long projectId;
+        private long count;
+
+        JpaSink(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        @Override
+        public void add(TaskDto.Request request) {
+            entityManager.persist(Task.builder()
+                    .title(request.getTitle())
+                    .description(request.getDescription())
+                    .status(request.getStatus())
+                    .priority(request.getPriority())
+                    .dueDate(request.getDueDate())
+                    .project(entityManager.getReference(Project.class, projectId))
+                    .build());
+            if (++count % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        @Override
+        public long finish() {
+            entityManager.flush();
+            entityManager.clear();
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,55 +1,108 @@
 package com.taskflow.service;
 
+import com.taskflow.config.MetricsConfig;
 import com.taskflow.dto.TaskDto;
-import com.taskflow.entity.Priority;
-import com.taskflow.entity.Project;
 import com.taskflow.entity.Task;
-import com.taskflow.entity.TaskStatus;
+import com.taskflow.exception.BadRequestException;
 import com.taskflow.exception.ResourceNotFoundException;
 import com.taskflow.exception.UnauthorizedException;
 import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskKeyset;
 import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskSort;
+import com.taskflow.repository.TaskSpecifications;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+    static final int MAX_QUERY_LENGTH = 200;
+    static final int DEFAULT_SEARCH_SIZE = 20;
+    static final int MAX_SEARCH_SIZE = 50;
+    static final int MAX_SEARCH_RESULTS = 1000;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public TaskDto.Page findByProject(Long projectId, TaskDto.Filter filter) {
+        TaskSort sort = parseSort(filter.getSort());
+        TaskKeyset after = TaskCursor.decode(filter.getCursor(), sort);
+        int size = pageSize(filter.getSize());
+
+        List<Task> tasks = taskRepository.findSlice(toSpecification(projectId, filter), sort, after, size + 1);
+        boolean hasNext = tasks.size() > size;
+        List<Task> page = hasNext ? tasks.subList(0, size) : tasks;
 
-    public List<TaskDto.Response> findByProject(Long projectId, TaskStatus status, Priority priority) {
-        List<Task> tasks;
+        String nextCursor = hasNext ? TaskCursor.encode(page.get(page.size() - 1), sort) : null;
+        return new TaskDto.Page(page.stream().map(this::toResponse).toList(), nextCursor);
+    }
 
-        if (status != null && priority != null) {
-            tasks = taskRepository.findByProjectIdAndStatusAndPriority(projectId, status, priority);
-        } else if (status != null) {
-            tasks = taskRepository.findByProjectIdAndStatus(projectId, status);
-        } else if (priority != null) {
-            tasks = taskRepository.findByProjectIdAndPriority(projectId, priority);
-        } else {
-            tasks = taskRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
+    /**
+     * ETag of a project's task list. It covers every task of the project rather than one page, so any
+     * change to the project's tasks invalidates all of its cached pages; checking it costs one
+     * aggregate query instead of loading and serializing the page.
+     */
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public String listETag(Long projectId, TaskDto.Filter filter) {
+        TaskRepository.ChangeSummary summary = taskRepository.summarizeByProjectId(projectId);
+        if (filter.isOverdue()) {
+            // Which tasks are overdue also changes with the date.
+            return ETags.quote(summary.getCount(), summary.getVersionSum(), summary.getLastUpdated(), LocalDate.now());
         }
+        return ETags.quote(summary.getCount(), summary.getVersionSum(), summary.getLastUpdated());
+    }
 
-        return tasks.stream().map(this::toResponse).toList();
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public TaskDto.SearchPage search(String query, Integer page, Integer size, Long currentUserId) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search text is required");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search text cannot exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0) {
+            throw new BadRequestException("Page number cannot be negative");
+        }
+        int pageSize = size == null ? DEFAULT_SEARCH_SIZE : Math.min(pageSize(size), MAX_SEARCH_SIZE);
+        long offset = (long) pageNumber * pageSize;
+        if (offset + pageSize > MAX_SEARCH_RESULTS) {
+            throw new BadRequestException("Only the first " + MAX_SEARCH_RESULTS + " results can be paged through; refine the search");
+        }
+
+        List<TaskRepository.SearchHit> hits = taskRepository.search(currentUserId, query.strip(), pageSize + 1, offset);
+        boolean hasMore = hits.size() > pageSize;
+        List<TaskDto.SearchHit> items = (hasMore ? hits.subList(0, pageSize) : hits).stream()
+                .map(this::toSearchHit)
+                .toList();
+        return new TaskDto.SearchPage(items, pageNumber, pageSize, hasMore);
     }
 
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public TaskDto.Response findById(Long id) {
         return toResponse(getTaskById(id));
     }
 
     @Transactional
-    public TaskDto.Response create(TaskDto.Request request, String currentUserEmail) {
-        Project project = projectRepository.findById(request.getProjectId())
-                .orElseThrow(() -> new ResourceNotFoundException("Project", request.getProjectId()));
-
-        if (!project.getOwner().getEmail().equals(currentUserEmail)) {
-            throw new UnauthorizedException("You don't have permission to add tasks to this project");
-        }
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public TaskDto.Response create(TaskDto.Request request, Long currentUserId) {
+        checkProjectOwner(request.getProjectId(), currentUserId,
+                "You don't have permission to add tasks to this project");
 
         Task task = Task.builder()
                 .title(request.getTitle())
@@ -57,16 +110,24 @@ public class TaskService {
                 .status(request.getStatus())
                 .priority(request.getPriority())
                 .dueDate(request.getDueDate())
-                .project(project)
+                .project(projectRepository.getReferenceById(request.getProjectId()))
                 .build();
 
-        return toResponse(taskRepository.save(task));
+        TaskDto.Response response = toResponse(taskRepository.save(task));
+        eventPublisher.publishEvent(ChangeEvent.taskCreated(currentUserId, response));
+        return response;
     }
 
+    /**
+     * Updates the task; a non-null {@code requiredVersion} (from {@code If-Match}) must equal the
+     * current version. Flushed before mapping so the response carries the incremented version.
+     */
     @Transactional
-    public TaskDto.Response update(Long id, TaskDto.UpdateRequest request, String currentUserEmail) {
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public TaskDto.Response update(Long id, TaskDto.UpdateRequest request, Long currentUserId, Long requiredVersion) {
+        checkTaskOwner(id, currentUserId);
         Task task = getTaskById(id);
-        validateProjectOwner(task, currentUserEmail);
+        ETags.checkVersion(task.getVersion(), requiredVersion);
 
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -74,14 +135,36 @@ public class TaskService {
         task.setPriority(request.getPriority());
         task.setDueDate(request.getDueDate());
 
-        return toResponse(taskRepository.save(task));
+        TaskDto.Response response = toResponse(taskRepository.saveAndFlush(task));
+        eventPublisher.publishEvent(ChangeEvent.taskUpdated(currentUserId, response));
+        return response;
     }
 
     @Transactional
-    public void delete(Long id, String currentUserEmail) {
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public void delete(Long id, Long currentUserId, Long requiredVersion) {
+        // Removed as an entity rather than with a JPQL DELETE, after which Hibernate would clear the
+        // whole task cache region; this way only the task and its project's task list are evicted.
+        checkTaskOwner(id, currentUserId);
         Task task = getTaskById(id);
-        validateProjectOwner(task, currentUserEmail);
-        taskRepository.deleteById(id);
+        ETags.checkVersion(task.getVersion(), requiredVersion);
+        taskRepository.delete(task);
+        eventPublisher.publishEvent(ChangeEvent.taskDeleted(currentUserId, id));
+    }
+
+    /** Checks that the caller owns a project, for operations that act on a whole project's tasks. */
+    @Transactional(readOnly = true)
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public void checkProjectOwner(Long projectId, Long currentUserId) {
+        checkProjectOwner(projectId, currentUserId, "You don't have permission to access this project");
+    }
+
+    private void checkProjectOwner(Long projectId, Long currentUserId, String message) {
+        Long ownerId = projectRepository.findOwnerIdById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", projectId));
+        if (!ownerId.equals(currentUserId)) {
+            throw new UnauthorizedException(message);
+        }
     }
 
     private Task getTaskById(Long id) {
@@ -89,12 +172,88 @@ public class TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("Task", id));
     }
 
-    private void validateProjectOwner(Task task, String currentUserEmail) {
-        if (!task.getProject().getOwner().getEmail().equals(currentUserEmail)) {
+    private void checkTaskOwner(Long id, Long currentUserId) {
+        Long ownerId = taskRepository.findOwnerIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", id));
+        if (!ownerId.equals(currentUserId)) {
             throw new UnauthorizedException("You don't have permission to modify this task");
         }
     }
 
+    private Specification<Task> toSpecification(Long projectId, TaskDto.Filter filter) {
+        Specification<Task> spec = TaskSpecifications.inProject(projectId);
+        if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+            spec = spec.and(TaskSpecifications.statusIn(filter.getStatus()));
+        }
+        if (filter.getPriority() != null && !filter.getPriority().isEmpty()) {
+            spec = spec.and(TaskSpecifications.priorityIn(filter.getPriority()));
+        }
+        if (filter.getDueFrom() != null) {
+            spec = spec.and(TaskSpecifications.dueOnOrAfter(filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            spec = spec.and(TaskSpecifications.dueOnOrBefore(filter.getDueTo()));
+        }
+        if (filter.isOverdue()) {
+            spec = spec.and(TaskSpecifications.overdue(LocalDate.now()));
+        }
+        if (filter.getQ() != null && !filter.getQ().isBlank()) {
+            if (filter.getQ().length() > MAX_QUERY_LENGTH) {
+                throw new BadRequestException("Search text cannot exceed " + MAX_QUERY_LENGTH + " characters");
+            }
+            spec = spec.and(TaskSpecifications.textMatches(filter.getQ().strip()));
+        }
+        return spec;
+    }
+
+    private TaskSort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return TaskSort.DEFAULT;
+        }
+        String[] parts = sort.split(",", 2);
+        TaskSort.Key key = TaskSort.Key.fromProperty(parts[0].strip())
+                .orElseThrow(() -> new BadRequestException("Unsupported sort property: " + parts[0]));
+        Sort.Direction direction = parts.length > 1
+                ? Sort.Direction.fromOptionalString(parts[1].strip())
+                        .orElseThrow(() -> new BadRequestException("Unsupported sort direction: " + parts[1]))
+                : Sort.Direction.ASC;
+        return new TaskSort(key, direction);
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new BadRequestException("Page size must be positive");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private TaskDto.SearchHit toSearchHit(TaskRepository.SearchHit hit) {
+        TaskDto.SearchHit response = new TaskDto.SearchHit();
+        response.setId(hit.getId());
+        response.setProjectId(hit.getProjectId());
+        response.setProjectName(hit.getProjectName());
+        response.setTitle(hit.getTitle());
+        response.setStatus(hit.getStatus());
+        response.setPriority(hit.getPriority());
+        response.setDueDate(hit.getDueDate());
+        response.setRank(hit.getRank());
+        response.setTitleHighlight(highlight(hit.getTitleHighlight()));
+        response.setSnippet(highlight(hit.getSnippet()));
+        return response;
+    }
+
+    private static String highlight(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline)
+                .replace(String.valueOf(TaskRepository.HIGHLIGHT_START), "<mark>")
+                .replace(String.valueOf(TaskRepository.HIGHLIGHT_STOP), "</mark>");
+    }
+
     public TaskDto.Response toResponse(Task task) {
         TaskDto.Response response = new TaskDto.Response();
         response.setId(task.getId());
@@ -105,6 +264,8 @@ public class TaskService {
         response.setDueDate(task.getDueDate());
         response.setProjectId(task.getProject().getId());
         response.setCreatedAt(task.getCreatedAt());
+        response.setUpdatedAt(task.getUpdatedAt());
+        response.setVersion(task.getVersion());
         return response;
     }
 }
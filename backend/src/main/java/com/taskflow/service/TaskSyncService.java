@@ -0,0 +1,111 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.Task;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delta sync of a project's tasks: everything created, updated or deleted after a client's position
+ * (see {@link TaskRepository#findChanges} and the V8 migration). A client with nothing new to
+ * receive costs one indexed range probe per table.
+ */
+@Service
+@Slf4j
+public class TaskSyncService {
+
+    static final int DEFAULT_PAGE_SIZE = 200;
+    static final int MAX_PAGE_SIZE = 1000;
+
+    // Covers clock skew between the application and the database and transactions that were still
+    // running when a token was issued: their tombstones are dated before the token.
+    static final Duration RETENTION_MARGIN = Duration.ofHours(1);
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final Duration tombstoneRetention;
+
+    public TaskSyncService(TaskRepository taskRepository,
+                           TaskService taskService,
+                           @Value("${tasks.sync.tombstone-retention}") Duration tombstoneRetention) {
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskDto.Changes changes(Long projectId, String since, Integer size, Long currentUserId) {
+        taskService.checkProjectOwner(projectId, currentUserId);
+        Instant now = Instant.now();
+        SyncToken after = SyncToken.decode(since);
+        if (after == null) {
+            after = SyncToken.start(now);
+        } else if (after.issuedAt().isBefore(now.minus(tombstoneRetention).plus(RETENTION_MARGIN))) {
+            return new TaskDto.Changes(List.of(), List.of(), null, false, true);
+        }
+        int limit = pageSize(size);
+
+        List<TaskRepository.Change> changes = taskRepository.findChanges(projectId, after.changeXid(), after.id(), limit + 1);
+        boolean hasMore = changes.size() > limit;
+        List<TaskRepository.Change> page = hasMore ? changes.subList(0, limit) : changes;
+
+        List<Long> changedIds = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        page.forEach(change -> (change.isDeleted() ? deletedIds : changedIds).add(change.getId()));
+
+        // Re-issued even when nothing changed: the client is now current as of this request.
+        SyncToken next = page.isEmpty()
+                ? new SyncToken(after.changeXid(), after.id(), now)
+                : new SyncToken(page.get(page.size() - 1).getChangeXid(), page.get(page.size() - 1).getId(), now);
+        return new TaskDto.Changes(load(changedIds), deletedIds, next.encode(), hasMore, false);
+    }
+
+    // A task deleted since the change query ran is skipped; its tombstone arrives with a later sync.
+    private List<TaskDto.Response> load(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Task> tasks = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return ids.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .map(taskService::toResponse)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.sync.tombstone-purge-interval}",
+            initialDelayString = "${tasks.sync.tombstone-purge-interval}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = taskRepository.deleteTombstonesBefore(LocalDateTime.now().minus(tombstoneRetention));
+        if (purged > 0) {
+            log.info("Purged {} task tombstones older than {}", purged, tombstoneRetention);
+        }
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new BadRequestException("Page size must be positive");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
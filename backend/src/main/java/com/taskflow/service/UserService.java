@@ -1,10 +1,13 @@
 package com.taskflow.service;
 
 import com.taskflow.dto.UserDto;
+import com.taskflow.entity.Role;
 import com.taskflow.entity.User;
 import com.taskflow.exception.DuplicateResourceException;
 import com.taskflow.exception.ResourceNotFoundException;
 import com.taskflow.repository.UserRepository;
+import com.taskflow.security.PrincipalCache;
+import com.taskflow.security.TokenRevocations;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +19,8 @@ import java.util.List;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final TokenRevocations tokenRevocations;
 
     public List<UserDto.Response> findAll() {
         return userRepository.findAll().stream()
@@ -41,17 +46,39 @@ public class UserService {
             throw new DuplicateResourceException("Email already in use: " + request.getEmail());
         }
 
+        principalCache.invalidate(user.getEmail());
+        if (!user.getEmail().equals(request.getEmail())) {
+            revokeTokens(user);
+        }
         user.setName(request.getName());
         user.setEmail(request.getEmail());
         return toResponse(userRepository.save(user));
     }
 
+    /** Changes the user's role; access tokens carrying the previous role stop working. */
     @Transactional
-    public void delete(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User", id);
+    public UserDto.Response updateRole(Long id, Role role) {
+        User user = findUserById(id);
+        if (user.getRole() != role) {
+            principalCache.invalidate(user.getEmail());
+            revokeTokens(user);
+            user.setRole(role);
         }
-        userRepository.deleteById(id);
+        return toResponse(userRepository.save(user));
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        User user = findUserById(id);
+        principalCache.invalidate(user.getEmail());
+        tokenRevocations.revokeUser(user.getId(), Integer.MAX_VALUE);
+        userRepository.delete(user);
+    }
+
+    // Access tokens name the user by email and carry the role, so a change of either revokes them.
+    private void revokeTokens(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        tokenRevocations.revokeUser(user.getId(), user.getTokenVersion());
     }
 
     public User findUserById(Long id) {
@@ -0,0 +1,6 @@
+-- Keyset pagination for GET /api/tasks/project/{projectId}: every filter combination
+-- is ordered by (created_at DESC, id DESC) and served by a matching composite index.
+CREATE INDEX idx_tasks_project_created ON tasks (project_id, created_at DESC, id DESC);
+CREATE INDEX idx_tasks_project_status_created ON tasks (project_id, status, created_at DESC, id DESC);
+CREATE INDEX idx_tasks_project_priority_created ON tasks (project_id, priority, created_at DESC, id DESC);
+CREATE INDEX idx_tasks_project_status_priority_created ON tasks (project_id, status, priority, created_at DESC, id DESC);
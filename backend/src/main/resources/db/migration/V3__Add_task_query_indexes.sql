@@ -0,0 +1,9 @@
+-- Indexes for the dynamic task query (GET /api/tasks/project/{projectId}).
+-- Status/priority filters use the V2 composite indexes; these cover due-date ranges,
+-- overdue-only, the dueDate/title sort keys and case-insensitive text match.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_tasks_project_due ON tasks (project_id, due_date, id);
+CREATE INDEX idx_tasks_project_title ON tasks (project_id, title, id);
+CREATE INDEX idx_tasks_title_trgm ON tasks USING gin (lower(title) gin_trgm_ops);
+CREATE INDEX idx_tasks_description_trgm ON tasks USING gin (lower(description) gin_trgm_ops);
@@ -0,0 +1,8 @@
+-- Full-text search over task titles and descriptions (GET /api/tasks/search).
+-- Titles weigh more than descriptions when ranking; the column is maintained by Postgres.
+ALTER TABLE tasks ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX idx_tasks_search_vector ON tasks USING gin (search_vector);
@@ -0,0 +1,4 @@
+-- Task ids are allocated by Hibernate in blocks of 50 (pooled optimizer), which lets
+-- inserts be sent as JDBC batches. The increment must match Task's allocationSize.
+-- The column default still draws from the same sequence, so raw SQL inserts stay consistent.
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
@@ -0,0 +1,2 @@
+-- Projects are listed, searched and authorized by owner_id, and deleting a user cascades through it.
+CREATE INDEX idx_projects_owner ON projects (owner_id);
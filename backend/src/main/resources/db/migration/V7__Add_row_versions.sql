@@ -0,0 +1,10 @@
+-- Optimistic locking and HTTP validators. version is incremented by Hibernate on every update
+-- (@Version) and backs the ETag / If-Match handling; updated_at records the last write.
+-- Both defaults are constant, so PostgreSQL adds the columns without rewriting the tables.
+ALTER TABLE projects
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+ALTER TABLE tasks
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
@@ -0,0 +1,48 @@
+-- Delta sync (GET /api/tasks/project/{id}/changes). Every insert and update stamps the task with
+-- the id of the writing transaction (xid8 as bigint) and every delete leaves a tombstone. Clients
+-- page through (change_xid, id) and only see transactions older than the oldest one still running,
+-- so a change can never commit behind a position a client has already passed.
+
+-- Existing rows keep 0 and are returned by a client's first sync; the constant default avoids a
+-- table rewrite, the volatile default only applies to rows inserted from now on.
+ALTER TABLE tasks ADD COLUMN change_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tasks ALTER COLUMN change_xid SET DEFAULT CAST(CAST(pg_current_xact_id() AS text) AS bigint);
+
+CREATE FUNCTION tasks_stamp_change() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.change_xid := CAST(CAST(pg_current_xact_id() AS text) AS bigint);
+    RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER tasks_stamp_change BEFORE UPDATE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tasks_stamp_change();
+
+-- An idle client's sync is one range probe past its position on this index. Updates now always
+-- touch an indexed column, which costs them HOT updates.
+CREATE INDEX idx_tasks_project_change ON tasks (project_id, change_xid, id);
+
+-- No foreign key: tombstones outlive their project. Purged after tasks.sync.tombstone-retention;
+-- clients holding an older position are told to resync.
+CREATE TABLE task_tombstones (
+    task_id    BIGINT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    change_xid BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_task_tombstones_project_change ON task_tombstones (project_id, change_xid, task_id);
+CREATE INDEX idx_task_tombstones_deleted_at ON task_tombstones (deleted_at);
+
+-- Statement level, so a bulk or cascaded delete writes its tombstones in one insert.
+CREATE FUNCTION tasks_record_tombstones() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO task_tombstones (task_id, project_id, change_xid)
+    SELECT id, project_id, CAST(CAST(pg_current_xact_id() AS text) AS bigint) FROM deleted_tasks;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER tasks_record_tombstones AFTER DELETE ON tasks
+    REFERENCING OLD TABLE AS deleted_tasks
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_record_tombstones();
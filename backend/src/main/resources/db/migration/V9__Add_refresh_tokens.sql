@@ -0,0 +1,32 @@
+-- Short-lived access tokens renewed with rotating refresh tokens. Access tokens carry the user's
+-- token_version; bumping it (role or email change) revokes all of them at once.
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
+
+-- Only the SHA-256 of a refresh token is stored. Each refresh marks the token used and issues the
+-- next one in its family; presenting a used token again deletes the family.
+CREATE TABLE refresh_tokens (
+    id         BIGSERIAL PRIMARY KEY,
+    user_id    BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    token_hash VARCHAR(64) NOT NULL UNIQUE,
+    family_id  VARCHAR(36) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    used_at    TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens (user_id);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+
+-- Revoked access tokens, until the last of them has expired: one token (token_id, on logout) or
+-- every token of a user below min_version. Every instance keeps them in memory and reloads them
+-- periodically. No foreign key: revocations of deleted users must outlive them.
+CREATE TABLE token_revocations (
+    id          BIGSERIAL PRIMARY KEY,
+    user_id     BIGINT NOT NULL,
+    token_id    VARCHAR(36),
+    min_version INTEGER,
+    expires_at  TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_token_revocations_expires_at ON token_revocations (expires_at);
@@ -0,0 +1,85 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.entity.Priority;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Role;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskStatus;
+import com.taskflow.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Entities shaped like production rows, generated from a fixed seed so that every run measures the
+ * same data: titles of a few words, a description on most tasks, a due date on about half.
+ */
+final class BenchmarkData {
+
+    private static final String[] WORDS = {
+            "review", "deploy", "fix", "login", "page", "update", "dependencies", "write", "tests", "for",
+            "the", "billing", "service", "refactor", "dashboard", "layout", "investigate", "slow", "query", "on"
+    };
+
+    private BenchmarkData() {
+    }
+
+    static User owner() {
+        return User.builder()
+                .id(1L)
+                .name("Benchmark Owner")
+                .email("owner@taskflow.com")
+                .password("hash")
+                .role(Role.USER)
+                .createdAt(LocalDateTime.of(2024, 1, 15, 9, 30))
+                .build();
+    }
+
+    static Project project(User owner) {
+        return Project.builder()
+                .id(1L)
+                .name("Website relaunch")
+                .description("Everything needed to ship the new marketing site before the spring campaign.")
+                .owner(owner)
+                .createdAt(LocalDateTime.of(2024, 1, 15, 9, 45))
+                .updatedAt(LocalDateTime.of(2024, 3, 2, 16, 10))
+                .version(3L)
+                .build();
+    }
+
+    static List<Task> tasks(Project project, int count) {
+        Random random = new Random(42);
+        LocalDateTime created = LocalDateTime.of(2024, 2, 1, 8, 0);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(Task.builder()
+                    .id(1000L + i)
+                    .title(sentence(random, 3 + random.nextInt(6)))
+                    .description(random.nextInt(5) == 0 ? null : sentence(random, 10 + random.nextInt(40)))
+                    .status(TaskStatus.values()[random.nextInt(TaskStatus.values().length)])
+                    .priority(Priority.values()[random.nextInt(Priority.values().length)])
+                    .dueDate(random.nextBoolean() ? LocalDate.of(2024, 4, 1).plusDays(random.nextInt(90)) : null)
+                    .project(project)
+                    .createdAt(created.plusMinutes(i * 37L))
+                    .updatedAt(created.plusMinutes(i * 37L + random.nextInt(10_000)))
+                    .version((long) random.nextInt(5))
+                    .build());
+        }
+        return tasks;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        sentence.setCharAt(0, Character.toUpperCase(sentence.charAt(0)));
+        return sentence.toString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the per-request token check before and after single-pass verification:
+ * <ul>
+ *     <li>{@code legacy} - extractUsername + isTokenValid as the filter used to call them
+ *     (three parses, a fresh key per parse)</li>
+ *     <li>{@code verifyUncached} - one parse with the shared parser, digest cache disabled</li>
+ *     <li>{@code verifyCached} - one parse, then served from the verified-token cache</li>
+ * </ul>
+ * and the other per-request operations: {@code generateToken} on login and registration,
+ * {@code extractUsername} on an uncached token.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+    private JwtService cachedService;
+    private JwtService uncachedService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedService = new JwtService(SECRET, 86_400_000L, 10_000, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        uncachedService = new JwtService(SECRET, 86_400_000L, 0, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        userDetails = User.withUsername("bench@taskflow.com").password("").authorities(List.of()).build();
+        token = cachedService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        String username = legacyExtractClaim(token, Claims::getSubject);
+        return username != null
+                && legacyExtractClaim(token, Claims::getSubject).equals(userDetails.getUsername())
+                && !legacyExtractClaim(token, Claims::getExpiration).before(new Date());
+    }
+
+    @Benchmark
+    public boolean verifyUncached() {
+        JwtService.VerifiedToken verified = uncachedService.verify(token);
+        return uncachedService.isTokenValid(verified, userDetails);
+    }
+
+    @Benchmark
+    public boolean verifyCached() {
+        JwtService.VerifiedToken verified = cachedService.verify(token);
+        return cachedService.isTokenValid(verified, userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return uncachedService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return uncachedService.extractUsername(token);
+    }
+
+    private static <T> T legacyExtractClaim(String token, Function<Claims, T> resolver) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        return resolver.apply(claims);
+    }
+}
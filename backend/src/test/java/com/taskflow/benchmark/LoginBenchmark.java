@@ -0,0 +1,97 @@
+package com.taskflow.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.taskflow.config.SecurityConfig;
+import com.taskflow.dto.AuthDto;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.User;
+import com.taskflow.repository.RefreshTokenRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.security.JwtService;
+import com.taskflow.security.PasswordVerifier;
+import com.taskflow.service.AuthService;
+import com.taskflow.service.RefreshTokenService;
+import com.taskflow.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * A login storm against {@code AuthService.login}: 16 clients log in over and over while 2 others
+ * map pages of tasks, standing in for the rest of the API on the same CPUs. {@code SampleTime}
+ * reports login throughput and p0.99 next to the API work's. Password checks run on
+ * {@link PasswordVerifier}'s pool of {@code hashThreads} ({@code 0}: one per CPU, the default;
+ * {@code 16}: one per client, as when every request thread hashed). The user lookup and the refresh
+ * token insert are stubbed, so the database is not part of the measurement.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoginBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"10", "12"})
+    public int strength;
+
+    @Param({"0", "16"})
+    public int hashThreads;
+
+    private AuthService authService;
+    private AuthDto.LoginRequest request;
+    private TaskService taskService;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(AuthService.class)).setLevel(Level.WARN);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordEncoder passwordEncoder = new SecurityConfig(null).passwordEncoder(meterRegistry, strength);
+        User user = BenchmarkData.owner();
+        user.setPassword(passwordEncoder.encode(PASSWORD));
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        authService = new AuthService(userRepository,
+                new PasswordVerifier(passwordEncoder, meterRegistry, hashThreads, 1024),
+                new JwtService(SECRET, 900_000L, 10_000, Duration.ofMinutes(1), meterRegistry),
+                new RefreshTokenService(mock(RefreshTokenRepository.class), Duration.ofDays(30)),
+                null);
+        request = new AuthDto.LoginRequest();
+        request.setEmail(user.getEmail());
+        request.setPassword(PASSWORD);
+
+        taskService = new TaskService(null, null, null);
+        tasks = BenchmarkData.tasks(BenchmarkData.project(user), PAGE_SIZE);
+    }
+
+    @Benchmark
+    @Group("storm")
+    @GroupThreads(16)
+    public AuthDto.AuthResponse login() {
+        return authService.login(request);
+    }
+
+    @Benchmark
+    @Group("storm")
+    @GroupThreads(2)
+    public List<TaskDto.Response> api() {
+        return tasks.stream().map(taskService::toResponse).toList();
+    }
+}
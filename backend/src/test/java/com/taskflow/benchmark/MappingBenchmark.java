@@ -0,0 +1,57 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.dto.ProjectDto;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.service.ProjectService;
+import com.taskflow.service.TaskService;
+import com.taskflow.service.UserService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping as done for every task and project a request returns: one task, a
+ * default page of tasks ({@code TaskService.findByProject}), and one project with its owner. The
+ * mapping never touches the repositories, so the services are built without them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private TaskService taskService;
+    private ProjectService projectService;
+    private Project project;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        taskService = new TaskService(null, null, null);
+        projectService = new ProjectService(null, null, null, new UserService(null, null, null), null);
+        project = BenchmarkData.project(BenchmarkData.owner());
+        tasks = BenchmarkData.tasks(project, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskDto.Response taskToResponse() {
+        return taskService.toResponse(tasks.get(0));
+    }
+
+    @Benchmark
+    public List<TaskDto.Response> taskPageToResponses() {
+        return tasks.stream().map(taskService::toResponse).toList();
+    }
+
+    @Benchmark
+    public ProjectDto.Response projectToResponse() {
+        return projectService.toResponse(project, PAGE_SIZE);
+    }
+}
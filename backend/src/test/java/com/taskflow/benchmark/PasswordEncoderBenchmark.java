@@ -0,0 +1,46 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.config.SecurityConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The password encoder the application is configured with ({@code SecurityConfig.passwordEncoder})
+ * at BCrypt costs around the default of 10: {@code encode} is paid on registration, password changes
+ * and rehashes, {@code matches} on every login.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"8", "10", "12"})
+    public int strength;
+
+    private PasswordEncoder passwordEncoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new SecurityConfig(null).passwordEncoder(new SimpleMeterRegistry(), strength);
+        hash = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, hash);
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskflow.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.config.JacksonConfig;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * All tasks of a 10,000-task project, encoded and decoded as JSON and as CBOR by the mappers the
+ * message converters use. Payload sizes, plain and gzipped, are printed once per fork; they do not
+ * change between iterations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadFormatBenchmark {
+
+    private static final int TASKS = 10_000;
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<TaskDto.Response> tasks;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        JacksonConfig config = new JacksonConfig();
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(config.blackbirdModule());
+        config.isoLocalDateTimeSerializer().customize(builder);
+        ObjectMapper objectMapper = format.equals("cbor")
+                ? config.cborHttpMessageConverter(builder).getObjectMapper()
+                : builder.build();
+
+        JavaType taskList = objectMapper.getTypeFactory().constructCollectionType(List.class, TaskDto.Response.class);
+        writer = objectMapper.writerFor(taskList);
+        reader = objectMapper.readerFor(taskList);
+
+        TaskService taskService = new TaskService(null, null, null);
+        tasks = BenchmarkData.tasks(BenchmarkData.project(BenchmarkData.owner()), TASKS).stream()
+                .map(taskService::toResponse)
+                .toList();
+        payload = writer.writeValueAsBytes(tasks);
+        System.out.printf("%n%s: %,d bytes, %,d gzipped%n", format, payload.length, gzippedLength(payload));
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return writer.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public List<TaskDto.Response> decode() throws Exception {
+        return reader.readValue(payload);
+    }
+
+    private static int gzippedLength(byte[] bytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+}
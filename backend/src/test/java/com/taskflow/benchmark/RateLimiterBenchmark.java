@@ -0,0 +1,97 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.security.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of the rate limit check every API request pays, with 32 threads at once spread over
+ * {@code keys} clients ({@code 1}: everyone hammers the same bucket):
+ * <ul>
+ *     <li>{@code lockFree} - {@link RateLimiter}, a compare-and-set per check on an expiring Caffeine
+ *     cache</li>
+ *     <li>{@code synchronizedBucket} - the textbook token bucket (token count plus last refill time)
+ *     behind a lock, on a {@code ConcurrentHashMap}, for comparison</li>
+ * </ul>
+ * About half the checks are refused, so both the allow and the reject paths are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final int CAPACITY = 1_000;
+    private static final Duration PERIOD = Duration.ofMillis(1);
+
+    @Param({"1", "64", "10000"})
+    public int keys;
+
+    private RateLimiter rateLimiter;
+    private Map<String, SynchronizedBucket> synchronizedBuckets;
+    private String[] keyNames;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(CAPACITY, PERIOD, CAPACITY, PERIOD, CAPACITY, PERIOD, 100_000,
+                new SimpleMeterRegistry());
+        synchronizedBuckets = new ConcurrentHashMap<>();
+        keyNames = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            keyNames[i] = "user:" + i;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        private int next;
+
+        String key(String[] keyNames) {
+            next = next + 1 == keyNames.length ? 0 : next + 1;
+            return keyNames[next];
+        }
+
+        @Setup
+        public void setUp(RateLimiterBenchmark benchmark) {
+            next = (int) (Thread.currentThread().threadId() % benchmark.keyNames.length);
+        }
+    }
+
+    @Benchmark
+    public Duration lockFree(Client client) {
+        return rateLimiter.tryAcquire(RateLimiter.Group.API, client.key(keyNames));
+    }
+
+    @Benchmark
+    public boolean synchronizedBucket(Client client) {
+        return synchronizedBuckets.computeIfAbsent(client.key(keyNames), key -> new SynchronizedBucket())
+                .tryAcquire(System.nanoTime());
+    }
+
+    private static final class SynchronizedBucket {
+
+        private static final double TOKENS_PER_NANO = (double) CAPACITY / PERIOD.toNanos();
+
+        private double tokens = CAPACITY;
+        private long refilledAt = System.nanoTime();
+
+        synchronized boolean tryAcquire(long now) {
+            tokens = Math.min(CAPACITY, tokens + (now - refilledAt) * TOKENS_PER_NANO);
+            refilledAt = Math.max(refilledAt, now);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}
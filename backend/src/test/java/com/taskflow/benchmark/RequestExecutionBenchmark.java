@@ -0,0 +1,153 @@
+package com.taskflow.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.TaskFlowApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mixed read/write HTTP load against the whole application on PostgreSQL, served either by Tomcat's
+ * platform thread pool ({@code platform}) or on virtual threads behind the admission filter
+ * ({@code virtual}). 56 clients page through a project's tasks while 8 update random tasks;
+ * {@code SampleTime} reports each operation's throughput and percentiles (p0.99). Responses other
+ * than 200, such as admission rejections, are counted and printed after each trial.
+ *
+ * <p>Uses the database in {@code SPRING_DATASOURCE_URL} / {@code _USERNAME} / {@code _PASSWORD} when
+ * set, otherwise a PostgreSQL container. Client concurrency can be changed with JMH's {@code -tg}.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class RequestExecutionBenchmark {
+
+    private static final int TASKS = 500;
+
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        @Param({"platform", "virtual"})
+        public String threads;
+
+        private PostgreSQLContainer<?> postgres;
+        private ConfigurableApplicationContext context;
+        private final HttpClient client = HttpClient.newHttpClient();
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final AtomicLong failures = new AtomicLong();
+        private String baseUrl;
+        private String authorization;
+        private long projectId;
+        private long[] taskIds;
+
+        @Setup(Level.Trial)
+        public void start() throws Exception {
+            Map<String, Object> properties = new HashMap<>();
+            if (System.getenv("SPRING_DATASOURCE_URL") == null) {
+                postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+                postgres.start();
+                properties.put("spring.datasource.url", postgres.getJdbcUrl());
+                properties.put("spring.datasource.username", postgres.getUsername());
+                properties.put("spring.datasource.password", postgres.getPassword());
+            }
+            properties.put("server.port", 0);
+            properties.put("jwt.secret", "benchmark-secret-key-that-is-long-enough-for-hs256");
+            properties.put("spring.threads.virtual.enabled", threads.equals("virtual"));
+            properties.put("logging.level.root", "WARN");
+            // As arguments, which take precedence over application.properties
+            context = new SpringApplicationBuilder(TaskFlowApplication.class).run(properties.entrySet().stream()
+                    .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                    .toArray(String[]::new));
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            String email = "bench-" + UUID.randomUUID() + "@taskflow.com";
+            JsonNode auth = send("POST", "/api/auth/register",
+                    Map.of("name", "Benchmark", "email", email, "password", "benchmark"), null);
+            authorization = "Bearer " + auth.get("token").asText();
+            projectId = send("POST", "/api/projects", Map.of("name", "Benchmark"), authorization).get("id").asLong();
+            taskIds = new long[TASKS];
+            for (int i = 0; i < TASKS; i++) {
+                taskIds[i] = send("POST", "/api/tasks", Map.of("title", "Task " + i, "projectId", projectId), authorization)
+                        .get("id").asLong();
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            System.out.printf("%n%s threads: %d responses other than 200%n", threads, failures.get());
+            SpringApplication.exit(context);
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+
+        int read() throws IOException, InterruptedException {
+            return status(HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/project/" + projectId + "?size=50"))
+                    .header("Authorization", authorization)
+                    .GET());
+        }
+
+        int write() throws IOException, InterruptedException {
+            long taskId = taskIds[ThreadLocalRandom.current().nextInt(taskIds.length)];
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "title", "Updated " + System.nanoTime(), "status", "IN_PROGRESS", "priority", "HIGH"));
+            return status(HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/" + taskId))
+                    .header("Authorization", authorization)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(body)));
+        }
+
+        private int status(HttpRequest.Builder request) throws IOException, InterruptedException {
+            int status = client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status != 200) {
+                failures.incrementAndGet();
+            }
+            return status;
+        }
+
+        private JsonNode send(String method, String path, Object body, String authorization) throws Exception {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+            if (authorization != null) {
+                request.header("Authorization", authorization);
+            }
+            HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 300) {
+                throw new IllegalStateException(method + " " + path + " failed: " + response.body());
+            }
+            return objectMapper.readTree(response.body());
+        }
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(56)
+    public int read(Server server) throws Exception {
+        return server.read();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(8)
+    public int write(Server server) throws Exception {
+        return server.write();
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskflow.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.config.JacksonConfig;
+import com.taskflow.dto.ProjectDto;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.User;
+import com.taskflow.service.ProjectService;
+import com.taskflow.service.TaskService;
+import com.taskflow.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Jackson serialization of the list endpoints' bodies to response bytes: a page of tasks
+ * ({@code GET /api/tasks/project/{id}}) and the caller's projects ({@code GET /api/projects}), each
+ * with the same owner. Sizes cover one item, the default page (50), the largest page (200) and a
+ * large delta-sync or export batch (1000).
+ * <ul>
+ *     <li>{@code mapper=boot} - Spring Boot's {@code ObjectMapper} as configured before tuning</li>
+ *     <li>{@code mapper=tuned} - with {@link JacksonConfig}: Blackbird, the ISO timestamp serializer
+ *     and warmed-up serializers</li>
+ * </ul>
+ * {@code gzipTasks} adds what compressing the page costs, at Tomcat's default level. Run with
+ * {@code -prof gc} (the default in the benchmark profile) for bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"1", "50", "200", "1000"})
+    public int size;
+
+    @Param({"boot", "tuned"})
+    public String mapper;
+
+    private ObjectMapper objectMapper;
+    private TaskDto.Page tasks;
+    private List<ProjectDto.Response> projects;
+    private JavaType projectList;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (mapper.equals("tuned")) {
+            JacksonConfig config = new JacksonConfig();
+            builder.modulesToInstall(config.blackbirdModule());
+            config.isoLocalDateTimeSerializer().customize(builder);
+        }
+        objectMapper = builder.build();
+        projectList = objectMapper.getTypeFactory().constructCollectionType(List.class, ProjectDto.Response.class);
+        if (mapper.equals("tuned")) {
+            JacksonConfig.warmUp(objectMapper);
+        }
+
+        User owner = BenchmarkData.owner();
+        TaskService taskService = new TaskService(null, null, null);
+        tasks = new TaskDto.Page(BenchmarkData.tasks(BenchmarkData.project(owner), size).stream()
+                .map(taskService::toResponse)
+                .toList(), "eyJpZCI6MTA0OX0");
+
+        ProjectService projectService = new ProjectService(null, null, null, new UserService(null, null, null), null);
+        projects = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Project project = BenchmarkData.project(owner);
+            project.setId(1L + i);
+            projects.add(projectService.toResponse(project, 20 + i % 30));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeTasks() throws Exception {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] writeProjects() throws Exception {
+        // As MappingJackson2HttpMessageConverter writes a List body
+        return objectMapper.writer().forType(projectList).writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public byte[] gzipTasks() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, tasks);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskflow.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AdmissionFilter Unit Tests")
+class AdmissionFilterTest {
+
+    private AdmissionFilter admissionFilter;
+
+    @BeforeEach
+    void setUp() {
+        admissionFilter = new AdmissionFilter(1, Duration.ZERO, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("Should reject requests beyond the limit with 503 and release permits afterwards")
+    void doFilter_BeyondLimit_ShouldReject() throws Exception {
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+
+        // The second request arrives while the first still holds the only permit.
+        admissionFilter.doFilter(new MockHttpServletRequest(), admitted,
+                new MockFilterChain(new HttpServlet() {}, (request, response, chain) ->
+                        admissionFilter.doFilter(new MockHttpServletRequest(), rejected, new MockFilterChain())));
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains("\"status\":503");
+        assertThat(admitted.getStatus()).isEqualTo(200);
+        assertThat(admissionFilter.availablePermits()).isEqualTo(1);
+    }
+}
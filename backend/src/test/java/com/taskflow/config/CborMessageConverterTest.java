@@ -0,0 +1,126 @@
+package com.taskflow.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.dto.ProjectDto;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.dto.UserDto;
+import com.taskflow.entity.Priority;
+import com.taskflow.entity.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CBOR Message Converter Unit Tests")
+class CborMessageConverterTest {
+
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    private final ObjectMapper json = builder().build();
+    private final MappingJackson2CborHttpMessageConverter converter =
+            new JacksonConfig().cborHttpMessageConverter(builder());
+
+    @Test
+    @DisplayName("Should write the same fields and values as the JSON representation")
+    void write_ShouldMatchJsonDataModel() throws Exception {
+        TaskDto.Page page = new TaskDto.Page(List.of(task(1L), task(2L)), "eyJpZCI6Mn0");
+
+        byte[] cbor = write(page);
+        byte[] text = json.writeValueAsBytes(page);
+
+        assertThat(converter.getObjectMapper().readTree(cbor)).isEqualTo(json.readTree(text));
+        assertThat(cbor.length).isLessThan(text.length);
+    }
+
+    @Test
+    @DisplayName("Should read back what it writes")
+    void read_ShouldRoundTripResponses() throws Exception {
+        ProjectDto.Response project = new ProjectDto.Response();
+        project.setId(7L);
+        project.setName("Website relaunch");
+        project.setOwner(owner());
+        project.setTaskCount(42);
+        project.setCreatedAt(LocalDateTime.of(2024, 1, 15, 9, 45, 0, 500_000_000));
+        project.setVersion(3L);
+
+        Object read = converter.read(ProjectDto.Response.class, input(write(project)));
+
+        assertThat(read).isEqualTo(project);
+    }
+
+    @Test
+    @DisplayName("Should ignore fields the DTO does not have and leave missing ones at their defaults")
+    void read_ShouldTolerateSchemaChanges() throws Exception {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("title", "Ship it");
+        body.put("projectId", 1);
+        body.put("assignee", "added by a newer client");
+
+        Object read = converter.read(TaskDto.Request.class, input(converter.getObjectMapper().writeValueAsBytes(body)));
+
+        assertThat(read).isInstanceOfSatisfying(TaskDto.Request.class, request -> {
+            assertThat(request.getTitle()).isEqualTo("Ship it");
+            assertThat(request.getProjectId()).isEqualTo(1L);
+            assertThat(request.getStatus()).isEqualTo(TaskStatus.TODO);
+            assertThat(request.getPriority()).isEqualTo(Priority.MEDIUM);
+        });
+    }
+
+    private byte[] write(Object body) throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(body, CBOR, output);
+        return output.getBodyAsBytes();
+    }
+
+    private static MockHttpInputMessage input(byte[] body) {
+        MockHttpInputMessage input = new MockHttpInputMessage(body);
+        input.getHeaders().setContentType(CBOR);
+        return input;
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        JacksonConfig config = new JacksonConfig();
+        builder.modulesToInstall(config.blackbirdModule());
+        config.isoLocalDateTimeSerializer().customize(builder);
+        return builder;
+    }
+
+    private static TaskDto.Response task(Long id) {
+        TaskDto.Response task = new TaskDto.Response();
+        task.setId(id);
+        task.setTitle("Fix login page " + id);
+        task.setDescription("Investigate the slow query on the dashboard");
+        task.setStatus("IN_PROGRESS");
+        task.setPriority("HIGH");
+        task.setDueDate(LocalDate.of(2024, 4, 1));
+        task.setProjectId(1L);
+        task.setCreatedAt(LocalDateTime.of(2024, 3, 1, 9, 30));
+        task.setUpdatedAt(LocalDateTime.of(2024, 3, 2, 16, 10, 5, 120_000_000));
+        task.setVersion(2L);
+        return task;
+    }
+
+    private static UserDto.Response owner() {
+        UserDto.Response owner = new UserDto.Response();
+        owner.setId(1L);
+        owner.setName("Benchmark Owner");
+        owner.setEmail("owner@taskflow.com");
+        owner.setRole("USER");
+        owner.setCreatedAt(LocalDateTime.of(2024, 1, 15, 9, 30));
+        return owner;
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskflow.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Number of SQL statements the annotated test method runs, checked by
+ * {@link StatementCountExtension} after the method returns. Setup in {@code @BeforeEach} does not count.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ExpectedStatements {
+
+    int value();
+
+    /**
+     * Whether running the same statement shape {@code repeatThreshold} times fails the test as an N+1.
+     */
+    boolean allowRepeats() default false;
+
+    int repeatThreshold() default 3;
+}
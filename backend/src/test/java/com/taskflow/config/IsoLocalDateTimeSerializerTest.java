@@ -0,0 +1,63 @@
+package com.taskflow.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.taskflow.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("IsoLocalDateTimeSerializer Unit Tests")
+class IsoLocalDateTimeSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer()));
+
+    @Test
+    @DisplayName("Should write the same text as ISO_LOCAL_DATE_TIME")
+    void serialize_ShouldMatchIsoFormatter() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            LocalDateTime value = LocalDateTime.of(random.nextInt(10_000), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60), nano(random));
+            assertThat(objectMapper.writeValueAsString(value))
+                    .isEqualTo('"' + value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + '"');
+        }
+        LocalDateTime farFuture = LocalDateTime.of(12_345, 6, 7, 8, 9, 10, 500_000_000);
+        assertThat(objectMapper.writeValueAsString(farFuture)).isEqualTo("\"+12345-06-07T08:09:10.5\"");
+    }
+
+    @Test
+    @DisplayName("Should produce the same JSON as the default Jackson setup once configured")
+    void jacksonConfig_ShouldKeepResponsesUnchanged() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper plain = builder.build();
+        JacksonConfig config = new JacksonConfig();
+        builder.modulesToInstall(config.blackbirdModule());
+        config.isoLocalDateTimeSerializer().customize(builder);
+        ObjectMapper tuned = builder.build();
+        JacksonConfig.warmUp(tuned);
+
+        Object error = new GlobalExceptionHandler.ErrorResponse(
+                404, "Task not found", LocalDateTime.of(2024, 3, 1, 9, 30, 0, 120_000_000));
+        assertThat(tuned.writeValueAsString(error)).isEqualTo(plain.writeValueAsString(error))
+                .contains("\"timestamp\":\"2024-03-01T09:30:00.12\"");
+    }
+
+    private static int nano(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> 0;
+            case 1 -> random.nextInt(1000) * 1_000_000;
+            case 2 -> random.nextInt(1_000_000) * 1000;
+            default -> random.nextInt(1_000_000_000);
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.taskflow.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability
+@DisplayName("Management Port Tests")
+class ManagementPortTest {
+
+    @LocalServerPort private int port;
+    @LocalManagementPort private int managementPort;
+    @Autowired private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("Should serve scrapes and health checks without credentials on the management port only")
+    void actuator_ShouldBeOpenOnlyOnManagementPort() {
+        assertThat(managementPort).isNotEqualTo(port);
+
+        ResponseEntity<String> scrape = get(managementPort, "/actuator/prometheus");
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scrape.getBody()).contains("application=\"taskflow\"");
+        assertThat(get(managementPort, "/actuator/health").getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(get(managementPort, "/actuator/metrics").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        assertThat(get(port, "/actuator/prometheus").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(get(port, "/actuator/health").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    private ResponseEntity<String> get(int port, String path) {
+        return restTemplate.getForEntity("http://localhost:" + port + path, String.class);
+    }
+}
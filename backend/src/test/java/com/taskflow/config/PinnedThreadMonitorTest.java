@@ -0,0 +1,52 @@
+package com.taskflow.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("PinnedThreadMonitor")
+class PinnedThreadMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PinnedThreadMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new PinnedThreadMonitor(Duration.ofMillis(10), meterRegistry);
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("Should time a virtual thread that blocks inside synchronized")
+    void onPinned_ShouldRecordPinnedVirtualThreads() throws Exception {
+        Object lock = new Object();
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(Duration.ofMillis(50));
+            }
+        }).join();
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(meterRegistry.get("jvm.threads.virtual.pinned").timer().count()).isEqualTo(1));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
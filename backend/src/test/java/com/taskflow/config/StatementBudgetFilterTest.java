@@ -0,0 +1,95 @@
+package com.taskflow.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StatementBudgetFilter Unit Tests")
+class StatementBudgetFilterTest {
+
+    private final CountingStatementInspector inspector = new CountingStatementInspector();
+    private SimpleMeterRegistry meterRegistry;
+    private StatementBudgetFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new StatementBudgetFilter(meterRegistry, 3, 3);
+    }
+
+    @Test
+    @DisplayName("Should record the statement count of a request under its endpoint")
+    void doFilter_ShouldRecordStatementsPerEndpoint() throws Exception {
+        run(request("/api/tasks/project/{projectId}", null), 2);
+
+        assertThat(meterRegistry.get("http.server.requests.statements")
+                .tags("method", "GET", "uri", "/api/tasks/project/{projectId}")
+                .summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.find("http.server.requests.statements.over.budget").counter()).isNull();
+        assertThat(meterRegistry.find("http.server.requests.statements.repeated").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should flag a request over the default budget that repeats a statement")
+    void doFilter_WhenOverBudgetAndRepeating_ShouldCount() throws Exception {
+        run(request("/api/projects", null), 4);
+
+        assertThat(meterRegistry.get("http.server.requests.statements.over.budget").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.server.requests.statements.repeated").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should take the budget from @StatementBudget on the handler method")
+    void doFilter_WithAnnotatedHandler_ShouldUseItsBudget() throws Exception {
+        HandlerMethod handler = new HandlerMethod(this, getClass().getDeclaredMethod("budgetOfOne"));
+
+        run(request("/api/projects/{id}", handler), 2);
+
+        assertThat(meterRegistry.get("http.server.requests.statements.over.budget").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not flag repeats on a handler that allows them")
+    void doFilter_WithRepeatsAllowed_ShouldOnlyCheckBudget() throws Exception {
+        HandlerMethod handler = new HandlerMethod(this, getClass().getDeclaredMethod("batchedWrites"));
+
+        run(request("/api/tasks/bulk", handler), 5);
+
+        assertThat(meterRegistry.find("http.server.requests.statements.repeated").counter()).isNull();
+        assertThat(meterRegistry.find("http.server.requests.statements.over.budget").counter()).isNull();
+    }
+
+    @StatementBudget(1)
+    void budgetOfOne() {
+    }
+
+    @StatementBudget(value = 5, allowRepeats = true)
+    void batchedWrites() {
+    }
+
+    private MockHttpServletRequest request(String pattern, HandlerMethod handler) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        if (handler != null) {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+        }
+        return request;
+    }
+
+    private void run(MockHttpServletRequest request, int statements) throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {}, (req, res, chain) -> {
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect("select t1_0.id from tasks t1_0 where t1_0.id=?");
+            }
+        }));
+    }
+}
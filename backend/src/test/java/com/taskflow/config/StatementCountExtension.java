@@ -0,0 +1,70 @@
+package com.taskflow.config;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Records the SQL statements each test method runs on the test thread, which covers service tests
+ * and MockMvc controller tests. Checks {@link ExpectedStatements} when present; otherwise assert
+ * through the instance:
+ *
+ * <pre>
+ * &#64;RegisterExtension
+ * final StatementCountExtension statements = new StatementCountExtension();
+ *
+ * statements.reset();
+ * projectService.findByOwner(ownerId);
+ * statements.assertCount(2).assertNoRepeats(3);
+ * </pre>
+ */
+public class StatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private StatementRecorder.Recording recording;
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        recording = StatementRecorder.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        recording.close();
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        ExpectedStatements expected = context.getRequiredTestMethod().getAnnotation(ExpectedStatements.class);
+        if (expected != null) {
+            assertCount(expected.value());
+            if (!expected.allowRepeats()) {
+                assertNoRepeats(expected.repeatThreshold());
+            }
+        }
+    }
+
+    public int count() {
+        return recording.count();
+    }
+
+    /**
+     * Forgets what ran so far, such as the test's own arrangement.
+     */
+    public void reset() {
+        recording.reset();
+    }
+
+    public StatementCountExtension assertCount(int expected) {
+        assertThat(recording.count()).as("SQL statements").isEqualTo(expected);
+        return this;
+    }
+
+    public StatementCountExtension assertNoRepeats(int threshold) {
+        Map<String, Integer> repeated = recording.repeated(threshold);
+        assertThat(repeated).as("statements run %d times or more (N+1)", threshold).isEmpty();
+        return this;
+    }
+}
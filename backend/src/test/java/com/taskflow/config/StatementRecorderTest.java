@@ -0,0 +1,45 @@
+package com.taskflow.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StatementRecorder Unit Tests")
+class StatementRecorderTest {
+
+    private final CountingStatementInspector inspector = new CountingStatementInspector();
+
+    @Test
+    @DisplayName("Should count statements only while recording, towards every open recording")
+    void record_ShouldCountNestedRecordings() {
+        inspector.inspect("select 1");
+
+        try (StatementRecorder.Recording outer = StatementRecorder.start()) {
+            inspector.inspect("select 1");
+            try (StatementRecorder.Recording inner = StatementRecorder.start()) {
+                inspector.inspect("select 2");
+                assertThat(inner.count()).isEqualTo(1);
+            }
+            inspector.inspect("select 3");
+            assertThat(outer.count()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("Should report statements repeated with different literals and IN lists as one shape")
+    void repeated_ShouldGroupByShape() {
+        try (StatementRecorder.Recording recording = StatementRecorder.start()) {
+            inspector.inspect("select u1_0.id from users u1_0 where u1_0.id=?");
+            inspector.inspect("select u1_0.id from users u1_0 where u1_0.id=?");
+            inspector.inspect("select t1_0.id from tasks t1_0 where t1_0.id in (?,?) and t1_0.title='a'");
+            inspector.inspect("select t1_0.id from tasks t1_0 where t1_0.id in (?, ?, ?) and t1_0.title='b'");
+            inspector.inspect("select t1_0.id from tasks t1_0 where t1_0.id in (?) and t1_0.title='it''s'");
+            inspector.inspect("select p1_0.id from projects p1_0 where p1_0.id=7");
+
+            assertThat(recording.repeated(3)).containsExactly(
+                    entry("select t1_0.id from tasks t1_0 where t1_0.id in (?) and t1_0.title=?", 3));
+            assertThat(recording.repeated(2)).hasSize(2);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.taskflow.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:negotiation;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Payload Negotiation Tests")
+class PayloadNegotiationTest {
+
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+    @Autowired private RequestMappingHandlerAdapter handlerAdapter;
+
+    private String token;
+    private String project;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String registration = objectMapper.writeValueAsString(Map.of(
+                "name", "Negotiation Owner",
+                "email", "owner-" + UUID.randomUUID() + "@taskflow.com",
+                "password", "password123"));
+        token = json(mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(registration))
+                .andExpect(status().isCreated())
+                .andReturn()).get("token").asText();
+
+        long id = json(mockMvc.perform(post("/api/projects")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Website relaunch\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()).get("id").asLong();
+        project = "/api/projects/" + id;
+    }
+
+    @Test
+    @DisplayName("Should serve the JacksonConfig CBOR converter in place of MVC's default one")
+    void messageConverters_ShouldContainOnlyTheConfiguredCborConverter() {
+        assertThat(handlerAdapter.getMessageConverters())
+                .filteredOn(MappingJackson2CborHttpMessageConverter.class::isInstance)
+                .containsExactly(cborHttpMessageConverter);
+    }
+
+    @Test
+    @DisplayName("Should answer Accept: application/cbor with CBOR and a CBOR-specific tag")
+    void findById_WithCborAccept_ShouldWriteCbor() throws Exception {
+        MvcResult cbor = fetch(CBOR.toString(), null);
+        MvcResult json = fetch(MediaType.ALL_VALUE, null);
+
+        assertThat(MediaType.valueOf(cbor.getResponse().getContentType())).isEqualTo(CBOR);
+        assertThat(MediaType.valueOf(json.getResponse().getContentType())).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(cborHttpMessageConverter.getObjectMapper().readTree(cbor.getResponse().getContentAsByteArray()))
+                .isEqualTo(json(json));
+        assertThat(eTag(cbor)).endsWith(".cbor\"").isNotEqualTo(eTag(json));
+    }
+
+    @Test
+    @DisplayName("Should only revalidate a cached copy against a tag of the same format")
+    void findById_WithTagOfOtherFormat_ShouldNotBeNotModified() throws Exception {
+        String jsonTag = eTag(fetch(MediaType.APPLICATION_JSON_VALUE, null));
+        String cborTag = eTag(fetch(CBOR.toString(), null));
+
+        assertThat(fetch(CBOR.toString(), jsonTag).getResponse().getStatus()).isEqualTo(200);
+        assertThat(fetch(MediaType.APPLICATION_JSON_VALUE, cborTag).getResponse().getStatus()).isEqualTo(200);
+        assertThat(fetch(CBOR.toString(), cborTag).getResponse().getStatus()).isEqualTo(304);
+        assertThat(fetch(MediaType.APPLICATION_JSON_VALUE, jsonTag).getResponse().getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("Should tag responses with the format MVC actually wrote")
+    void findById_ShouldTagTheNegotiatedFormat() throws Exception {
+        for (String accept : new String[] {
+                MediaType.ALL_VALUE, "application/*", MediaType.APPLICATION_JSON_VALUE, CBOR.toString(),
+                "application/json, application/cbor", "application/cbor, application/json",
+                "application/cbor;q=0.5, application/json", "application/json;q=0.5, application/cbor",
+                "application/cbor, */*;q=0.8", "application/json;q=0, application/*"}) {
+            MvcResult result = fetch(accept, null);
+            boolean cbor = CBOR.isCompatibleWith(MediaType.valueOf(result.getResponse().getContentType()));
+
+            assertThat(eTag(result).endsWith(".cbor\"")).as(accept).isEqualTo(cbor);
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept a CBOR tag in If-Match")
+    void update_WithCborIfMatch_ShouldCheckVersion() throws Exception {
+        String cborTag = eTag(fetch(CBOR.toString(), null));
+
+        mockMvc.perform(put(project)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .header(HttpHeaders.IF_MATCH, cborTag)
+                        .accept(CBOR)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Website relaunch 2\"}"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, endsWith(".cbor\"")));
+    }
+
+    private MvcResult fetch(String accept, String ifNoneMatch) throws Exception {
+        var request = get(project)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(HttpHeaders.ACCEPT, accept);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request).andReturn();
+    }
+
+    private JsonNode json(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+
+    private static String eTag(MvcResult result) {
+        return result.getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskflow.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:compression;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("test")
+@DisplayName("Response Compression Tests")
+class ResponseCompressionTest {
+
+    private static final int TASKS = 30;
+
+    @Autowired private TestRestTemplate restTemplate;
+    @Autowired private ObjectMapper objectMapper;
+
+    private HttpHeaders auth;
+    private long projectId;
+
+    @BeforeEach
+    void setUp() {
+        JsonNode user = restTemplate.postForObject("/api/auth/register", Map.of(
+                "name", "Compression Owner",
+                "email", "owner-" + UUID.randomUUID() + "@taskflow.com",
+                "password", "password123"), JsonNode.class);
+        auth = new HttpHeaders();
+        auth.setBearerAuth(user.get("token").asText());
+
+        projectId = exchange(HttpMethod.POST, "/api/projects", Map.of("name", "Website relaunch"))
+                .get("id").asLong();
+        List<Map<String, Object>> creates = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            creates.add(Map.of("title", "Fix login page " + i, "projectId", projectId,
+                    "description", "Investigate the slow query on the dashboard"));
+        }
+        exchange(HttpMethod.POST, "/api/tasks/bulk", Map.of("create", creates));
+    }
+
+    @Test
+    @DisplayName("Should gzip a large task list and tag it weakly, so revalidation still works")
+    void findByProject_WithAcceptEncodingGzip_ShouldCompress() throws Exception {
+        HttpHeaders headers = new HttpHeaders(auth);
+        headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        ResponseEntity<byte[]> response = get(headers);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getETag()).startsWith("W/\"");
+        JsonNode page = objectMapper.readTree(new GZIPInputStream(new ByteArrayInputStream(response.getBody())));
+        assertThat(page.get("items")).hasSize(TASKS);
+
+        headers.setIfNoneMatch(response.getHeaders().getETag());
+        assertThat(get(headers).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("Should send the list uncompressed to clients that do not accept gzip")
+    void findByProject_WithoutAcceptEncoding_ShouldNotCompress() throws Exception {
+        ResponseEntity<byte[]> response = get(new HttpHeaders(auth));
+
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(objectMapper.readTree(response.getBody()).get("items")).hasSize(TASKS);
+    }
+
+    private ResponseEntity<byte[]> get(HttpHeaders headers) {
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        return restTemplate.exchange("/api/tasks/project/" + projectId, HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+    }
+
+    private JsonNode exchange(HttpMethod method, String path, Object body) {
+        ResponseEntity<JsonNode> response = restTemplate.exchange(path, method, new HttpEntity<>(body, auth), JsonNode.class);
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        return response.getBody();
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskflow.load;
+
+import java.util.List;
+
+/**
+ * What {@link LoadDataGenerator} created. Users are ordered by rank, the first owning the most projects.
+ */
+record LoadData(List<User> users, long tasks) {
+
+    record User(Long id, String email, List<Long> projectIds) {
+    }
+}
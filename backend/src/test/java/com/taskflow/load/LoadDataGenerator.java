@@ -0,0 +1,181 @@
+package com.taskflow.load;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the database with users, projects and tasks skewed the way real usage is: a few users own
+ * most projects and a few projects hold most tasks (both Zipf-distributed), while most tasks are done
+ * and most priorities are medium. Rows are written with batched JDBC inserts and a fixed seed, so a
+ * run with the same sizes always produces the same data. Every user has the same password.
+ */
+class LoadDataGenerator {
+
+    static final String PASSWORD = "load-password";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] WORDS = {
+            "review", "deploy", "fix", "login", "page", "update", "dependencies", "write", "tests", "for",
+            "the", "billing", "service", "refactor", "dashboard", "layout", "investigate", "slow", "query", "on"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    LoadDataGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param passwordHash      stored for every user, encoded once by the caller
+     * @param tasksPerProject   the average; the largest project holds many times more
+     */
+    LoadData generate(int users, int projects, int tasksPerProject, String passwordHash) {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+        List<Object[]> userRows = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            userRows.add(new Object[]{"Load User " + i, email(i), passwordHash, "USER", Timestamp.valueOf(start)});
+        }
+        batch("INSERT INTO users (name, email, password, role, created_at, token_version) VALUES (?, ?, ?, ?, ?, 0)", userRows);
+        long[] userIds = jdbcTemplate.queryForList("SELECT id FROM users WHERE email LIKE 'load-%' ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+
+        Zipf owners = new Zipf(users, 1.0);
+        List<Object[]> projectRows = new ArrayList<>(projects);
+        for (int i = 0; i < projects; i++) {
+            Timestamp created = Timestamp.valueOf(start.plusHours(i));
+            projectRows.add(new Object[]{"Project " + i, sentence(12), userIds[owners.sample(random)], created, created});
+        }
+        batch("INSERT INTO projects (name, description, owner_id, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, 0)",
+                projectRows);
+
+        List<LoadData.User> loadUsers = new ArrayList<>(users);
+        List<List<Long>> projectsByUser = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            projectsByUser.add(new ArrayList<>());
+        }
+        long[] projectIds = new long[projects];
+        int[] index = {0};
+        jdbcTemplate.query("SELECT p.id, p.owner_id FROM projects p JOIN users u ON u.id = p.owner_id "
+                        + "WHERE u.email LIKE 'load-%' ORDER BY p.id",
+                row -> {
+                    projectIds[index[0]++] = row.getLong(1);
+                    projectsByUser.get(Arrays.binarySearch(userIds, row.getLong(2))).add(row.getLong(1));
+                });
+        for (int i = 0; i < users; i++) {
+            loadUsers.add(new LoadData.User(userIds[i], email(i), List.copyOf(projectsByUser.get(i))));
+        }
+
+        int[] taskCounts = skewedCounts(projects, (long) projects * tasksPerProject);
+        List<Object[]> taskRows = new ArrayList<>(BATCH_SIZE);
+        long tasks = 0;
+        for (int p = 0; p < projects; p++) {
+            for (int t = 0; t < taskCounts[p]; t++) {
+                Timestamp created = Timestamp.valueOf(start.plusMinutes(tasks++));
+                taskRows.add(new Object[]{
+                        sentence(3 + random.nextInt(6)),
+                        random.nextInt(10) < 3 ? null : sentence(10 + random.nextInt(40)),
+                        status(), priority(),
+                        random.nextInt(10) < 4 ? LocalDate.of(2024, 6, 1).plusDays(random.nextInt(365)) : null,
+                        projectIds[p], created, created
+                });
+                if (taskRows.size() == BATCH_SIZE) {
+                    insertTasks(taskRows);
+                    taskRows.clear();
+                }
+            }
+        }
+        insertTasks(taskRows);
+        return new LoadData(loadUsers, tasks);
+    }
+
+    static String email(int user) {
+        return "load-" + user + "@taskflow.com";
+    }
+
+    private void insertTasks(List<Object[]> rows) {
+        batch("INSERT INTO tasks (id, title, description, status, priority, due_date, project_id, created_at, updated_at, version) "
+                + "VALUES (nextval('tasks_id_seq'), ?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    // Splits total over the projects by Zipf weight, in shuffled order so that the largest projects
+    // are spread over the owners instead of all belonging to the first one.
+    private int[] skewedCounts(int projects, long total) {
+        double[] weights = new double[projects];
+        double sum = 0;
+        for (int i = 0; i < projects; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, 0.8);
+            sum += weights[i];
+        }
+        int[] counts = new int[projects];
+        for (int i = 0; i < projects; i++) {
+            counts[i] = Math.max(1, (int) Math.round(total * weights[i] / sum));
+        }
+        for (int i = projects - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = counts[i];
+            counts[i] = counts[j];
+            counts[j] = swap;
+        }
+        return counts;
+    }
+
+    private String status() {
+        int roll = random.nextInt(10);
+        return roll < 5 ? "DONE" : roll < 7 ? "IN_PROGRESS" : "TODO";
+    }
+
+    private String priority() {
+        int roll = random.nextInt(10);
+        return roll < 2 ? "HIGH" : roll < 8 ? "MEDIUM" : "LOW";
+    }
+
+    private String sentence(int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        sentence.setCharAt(0, Character.toUpperCase(sentence.charAt(0)));
+        return sentence.toString();
+    }
+
+    /**
+     * Samples ranks 0..n-1 with probability proportional to 1 / (rank + 1)^exponent.
+     */
+    static class Zipf {
+
+        private final double[] cumulative;
+
+        Zipf(int n, double exponent) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1.0 / Math.pow(i + 1, exponent);
+                cumulative[i] = sum;
+            }
+        }
+
+        int sample(Random random) {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, target);
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.taskflow.load;
+
+import org.HdrHistogram.Histogram;
+import org.hibernate.stat.Statistics;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Drives a scenario over HTTP from a fixed number of client threads, first for the warm-up and then
+ * for the measured duration, and reports on the measured part. Clients call the server with blocking
+ * requests on their own threads, so their allocations can be told apart from the server's.
+ */
+class LoadScenarioRunner {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final String baseUrl;
+    private final Statistics statistics;
+    private final int threads;
+    private final Duration warmup;
+    private final Duration duration;
+    private final RestTemplate restTemplate;
+
+    LoadScenarioRunner(String baseUrl, Statistics statistics, int threads, Duration warmup, Duration duration) {
+        this.baseUrl = baseUrl;
+        this.statistics = statistics;
+        this.threads = threads;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.restTemplate = new RestTemplate(new SimpleClientHttpRequestFactory());
+        this.restTemplate.setErrorHandler(new ResponseErrorHandler() {
+            @Override
+            public boolean hasError(ClientHttpResponse response) {
+                return false;
+            }
+
+            @Override
+            public void handleError(ClientHttpResponse response) {
+            }
+        });
+    }
+
+    /**
+     * One script per client thread, created with the thread's index; the thread calls
+     * {@link Script#iterate} until time is up.
+     */
+    ScenarioReport run(String name, IntFunction<Script> scripts) throws InterruptedException {
+        runPhase(scripts, warmup, null);
+
+        Measurement measurement = new Measurement();
+        long statements = statistics.getPrepareStatementCount();
+        long allocated = THREADS.getTotalThreadAllocatedBytes();
+        long started = System.nanoTime();
+        runPhase(scripts, duration, measurement);
+        long elapsed = System.nanoTime() - started;
+        long serverAllocated = THREADS.getTotalThreadAllocatedBytes() - allocated - measurement.clientAllocated.sum();
+
+        Histogram latencies = new Histogram(3);
+        measurement.latencies.forEach(latencies::add);
+        long requests = latencies.getTotalCount();
+        Map<Integer, Long> statuses = new TreeMap<>();
+        measurement.statuses.forEach((status, count) -> statuses.put(status, count.sum()));
+        return new ScenarioReport(name, threads, requests, elapsed / 1e9,
+                latencies.getValueAtPercentile(50) / 1e6,
+                latencies.getValueAtPercentile(95) / 1e6,
+                latencies.getValueAtPercentile(99) / 1e6,
+                latencies.getMaxValue() / 1e6,
+                (double) (statistics.getPrepareStatementCount() - statements) / Math.max(requests, 1),
+                serverAllocated / Math.max(requests, 1),
+                serverAllocated / (elapsed / 1e9),
+                statuses);
+    }
+
+    private void runPhase(IntFunction<Script> scripts, Duration length, Measurement measurement)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + length.toNanos();
+        List<Thread> clients = new ArrayList<>(threads);
+        List<Throwable> failures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Script script = scripts.apply(i);
+            Client client = new Client(measurement);
+            clients.add(Thread.ofPlatform().name("load-client-" + i).start(() -> {
+                long allocated = THREADS.getCurrentThreadAllocatedBytes();
+                try {
+                    while (System.nanoTime() < deadline) {
+                        script.iterate(client);
+                    }
+                } catch (Throwable ex) {
+                    synchronized (failures) {
+                        failures.add(ex);
+                    }
+                } finally {
+                    if (measurement != null) {
+                        measurement.clientAllocated.add(THREADS.getCurrentThreadAllocatedBytes() - allocated);
+                        synchronized (measurement.latencies) {
+                            measurement.latencies.add(client.latencies);
+                        }
+                    }
+                }
+            }));
+        }
+        for (Thread client : clients) {
+            client.join();
+        }
+        if (!failures.isEmpty()) {
+            IllegalStateException failure = new IllegalStateException("Load client failed");
+            failures.forEach(failure::addSuppressed);
+            throw failure;
+        }
+    }
+
+    interface Script {
+        void iterate(Client client) throws Exception;
+    }
+
+    private static class Measurement {
+        final List<Histogram> latencies = new ArrayList<>();
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        final LongAdder clientAllocated = new LongAdder();
+    }
+
+    /**
+     * Times and counts every request made through it. Used by one thread only.
+     */
+    class Client {
+
+        private final Measurement measurement;
+        private final Histogram latencies = new Histogram(TimeUnit.MINUTES.toNanos(1), 3);
+
+        private Client(Measurement measurement) {
+            this.measurement = measurement;
+        }
+
+        ResponseEntity<String> exchange(HttpMethod method, String path, Object body, HttpHeaders headers) {
+            HttpHeaders requestHeaders = new HttpHeaders();
+            requestHeaders.addAll(headers);
+            if (body != null) {
+                requestHeaders.setContentType(MediaType.APPLICATION_JSON);
+            }
+            long started = System.nanoTime();
+            ResponseEntity<String> response = restTemplate.exchange(
+                    baseUrl + path, method, new HttpEntity<>(body, requestHeaders), String.class);
+            long elapsed = System.nanoTime() - started;
+            if (measurement != null) {
+                latencies.recordValue(Math.min(elapsed, latencies.getHighestTrackableValue()));
+                measurement.statuses.computeIfAbsent(response.getStatusCode().value(), status -> new LongAdder())
+                        .increment();
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.taskflow.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.security.AuthenticatedUser;
+import com.taskflow.security.JwtService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * End-to-end load scenarios against the real controllers on an in-memory H2 database in PostgreSQL
+ * mode, filled by {@link LoadDataGenerator}. Tagged {@code load} and excluded from the default build;
+ * run with {@code mvn test -Pload}. Sizes and durations are {@code load.*} system properties. The
+ * report is printed and written to {@code load.report}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "logging.level.root=WARN",
+        // Every simulated client connects from localhost
+        "rate-limit.enabled=false"
+})
+@ActiveProfiles("test")
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("Load scenarios")
+class LoadTest {
+
+    private static final int BULK_SIZE = 20;
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+
+    @LocalServerPort private int port;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private JwtService jwtService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Value("${load.users:500}") private int users;
+    @Value("${load.projects:2000}") private int projects;
+    @Value("${load.tasks-per-project:50}") private int tasksPerProject;
+    @Value("${load.threads:16}") private int threads;
+    @Value("${load.warmup:PT5S}") private Duration warmup;
+    @Value("${load.duration:PT15S}") private Duration duration;
+    @Value("${load.report:target/load-report.md}") private Path reportFile;
+
+    private LoadData data;
+    private List<LoadData.User> activeUsers;
+    private LoadDataGenerator.Zipf activeUserRanks;
+    private Map<Long, String> tokens;
+    private LoadScenarioRunner runner;
+    private final List<ScenarioReport> reports = new ArrayList<>();
+
+    @BeforeAll
+    void generateData() {
+        data = new LoadDataGenerator(jdbcTemplate)
+                .generate(users, projects, tasksPerProject, passwordEncoder.encode(LoadDataGenerator.PASSWORD));
+        // Users are ranked by how many projects they own, so the busiest are picked most often.
+        activeUsers = data.users().stream().filter(user -> !user.projectIds().isEmpty()).toList();
+        activeUserRanks = new LoadDataGenerator.Zipf(activeUsers.size(), 1.0);
+        tokens = new HashMap<>();
+        for (LoadData.User user : activeUsers) {
+            tokens.put(user.id(), jwtService.generateToken(new AuthenticatedUser(user.id(), user.email(), "",
+                    List.of(new SimpleGrantedAuthority("ROLE_USER")))));
+        }
+        runner = new LoadScenarioRunner("http://localhost:" + port,
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics(), threads, warmup, duration);
+    }
+
+    @AfterAll
+    void writeReport() throws Exception {
+        String report = String.format("# Load test%n%n%d users, %d projects, %d tasks; %s warm-up, %s measured%n%n%s",
+                data.users().size(), projects, data.tasks(), warmup, duration, ScenarioReport.table(reports));
+        System.out.println(report);
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        Files.writeString(reportFile, report);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Login storm: every client logs in over and over")
+    void loginStorm() throws Exception {
+        ScenarioReport report = run("login storm", client -> {
+            Random random = new Random(client);
+            return http -> {
+                LoadData.User user = pickUser(random);
+                http.exchange(HttpMethod.POST, "/api/auth/login",
+                        Map.of("email", user.email(), "password", LoadDataGenerator.PASSWORD), new HttpHeaders());
+            };
+        });
+
+        assertThat(report.requests()).isPositive();
+        assertThat(report.errors()).isZero();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Board polling: clients refresh their project list and a board with conditional requests")
+    void boardPolling() throws Exception {
+        ScenarioReport report = run("board polling", client -> {
+            Random random = new Random(client);
+            Map<String, String> etags = new HashMap<>();
+            return http -> {
+                LoadData.User user = pickUser(random);
+                Long projectId = user.projectIds().get(random.nextInt(user.projectIds().size()));
+                poll(http, "/api/projects", user, etags);
+                poll(http, "/api/tasks/project/" + projectId, user, etags);
+            };
+        });
+
+        assertThat(report.requests()).isPositive();
+        assertThat(report.errors()).isZero();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Bulk edits: clients load a page of a board and move its tasks in one bulk request")
+    void bulkEdits() throws Exception {
+        ScenarioReport report = run("bulk edits", client -> {
+            Random random = new Random(client);
+            return http -> {
+                LoadData.User user = pickUser(random);
+                Long projectId = user.projectIds().get(random.nextInt(user.projectIds().size()));
+                HttpHeaders headers = authorization(user);
+                ResponseEntity<String> page = http.exchange(HttpMethod.GET,
+                        "/api/tasks/project/" + projectId + "?size=" + BULK_SIZE, null, headers);
+                List<Map<String, Object>> updates = new ArrayList<>();
+                for (JsonNode task : objectMapper.readTree(page.getBody()).get("items")) {
+                    updates.add(Map.of(
+                            "id", task.get("id").asLong(),
+                            "version", task.get("version").asLong(),
+                            "title", task.get("title").asText(),
+                            "status", STATUSES[random.nextInt(STATUSES.length)],
+                            "priority", task.get("priority").asText()));
+                }
+                http.exchange(HttpMethod.POST, "/api/tasks/bulk", Map.of("update", updates), headers);
+            };
+        });
+
+        assertThat(report.requests()).isPositive();
+        assertThat(report.errors()).isZero();
+    }
+
+    private ScenarioReport run(String name, IntFunction<LoadScenarioRunner.Script> scripts)
+            throws InterruptedException {
+        ScenarioReport report = runner.run(name, scripts);
+        reports.add(report);
+        return report;
+    }
+
+    private LoadData.User pickUser(Random random) {
+        return activeUsers.get(activeUserRanks.sample(random));
+    }
+
+    private void poll(LoadScenarioRunner.Client http, String path, LoadData.User user, Map<String, String> etags) {
+        String key = user.id() + path;
+        HttpHeaders headers = authorization(user);
+        String etag = etags.get(key);
+        if (etag != null) {
+            headers.setIfNoneMatch(etag);
+        }
+        ResponseEntity<String> response = http.exchange(HttpMethod.GET, path, null, headers);
+        if (response.getHeaders().getETag() != null) {
+            etags.put(key, response.getHeaders().getETag());
+        }
+    }
+
+    private HttpHeaders authorization(LoadData.User user) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(tokens.get(user.id()));
+        return headers;
+    }
+}
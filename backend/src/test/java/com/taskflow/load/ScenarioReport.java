@@ -0,0 +1,51 @@
+package com.taskflow.load;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Measured part of one scenario. Latencies are in milliseconds; statements are those prepared by
+ * Hibernate; allocations are the server's (all threads but the load clients).
+ *
+ * @param statuses request count by HTTP status
+ */
+record ScenarioReport(String name, int threads, long requests, double seconds,
+                      double p50, double p95, double p99, double max,
+                      double statementsPerRequest, long bytesAllocatedPerRequest, double bytesAllocatedPerSecond,
+                      Map<Integer, Long> statuses) {
+
+    double throughput() {
+        return requests / seconds;
+    }
+
+    /**
+     * Responses other than success, not modified, conflict (a write that lost to a concurrent edit
+     * of the same rows, common on skewed data) or rejection of a saturated server (429, 503).
+     */
+    long errors() {
+        return statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() >= 300 && entry.getKey() != 304 && entry.getKey() != 409
+                        && entry.getKey() != 429 && entry.getKey() != 503)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    static String table(List<ScenarioReport> reports) {
+        StringBuilder table = new StringBuilder()
+                .append("| Scenario | Clients | Requests | Req/s | p50 ms | p95 ms | p99 ms | max ms "
+                        + "| SQL/req | KB alloc/req | MB alloc/s | Statuses |\n")
+                .append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---|\n");
+        for (ScenarioReport report : reports) {
+            table.append(String.format("| %s | %d | %d | %.1f | %.1f | %.1f | %.1f | %.1f | %.2f | %.1f | %.1f | %s |%n",
+                    report.name, report.threads, report.requests, report.throughput(),
+                    report.p50, report.p95, report.p99, report.max,
+                    report.statementsPerRequest, report.bytesAllocatedPerRequest / 1024.0,
+                    report.bytesAllocatedPerSecond / (1024.0 * 1024.0),
+                    report.statuses.entrySet().stream()
+                            .map(entry -> entry.getKey() + ": " + entry.getValue())
+                            .collect(Collectors.joining(", "))));
+        }
+        return table.toString();
+    }
+}
@@ -0,0 +1,177 @@
+package com.taskflow.repository;
+
+import com.taskflow.entity.Priority;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs every supported task filter shape against PostgreSQL and checks with EXPLAIN that
+ * the generated statement can be answered from an index. Sequential scans are disabled for
+ * the session, so the planner only falls back to one when no index applies. Skipped when
+ * Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.taskflow.repository.TaskQueryPlanTest$CapturingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Task query plans")
+class TaskQueryPlanTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withUrlParam("preferQueryMode", "simple");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        Long ownerId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (name, email, password) VALUES ('Owner', 'plan@test.com', 'x') RETURNING id",
+                Long.class);
+        projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (name, owner_id) VALUES ('Plan', ?) RETURNING id", Long.class, ownerId);
+        jdbcTemplate.update("""
+                INSERT INTO tasks (title, description, status, priority, due_date, project_id, created_at)
+                SELECT 'Task ' || n, 'Description ' || n,
+                       (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + n % 3],
+                       (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + n % 3],
+                       CASE WHEN n % 5 = 0 THEN NULL ELSE CURRENT_DATE + (n % 60 - 30) END,
+                       ?, CURRENT_TIMESTAMP - n * INTERVAL '1 minute'
+                FROM generate_series(1, 2000) AS n
+                """, projectId);
+        jdbcTemplate.execute("ANALYZE tasks");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("project only, default sort")
+    void projectOnly() {
+        assertUsesIndex(project(), TaskSort.DEFAULT, null);
+    }
+
+    @Test
+    @DisplayName("project only, after a cursor")
+    void projectOnlyAfterCursor() {
+        assertUsesIndex(project(), TaskSort.DEFAULT, new TaskKeyset(LocalDateTime.now().minusHours(1), 1_000L));
+    }
+
+    @Test
+    @DisplayName("single status")
+    void singleStatus() {
+        assertUsesIndex(project().and(TaskSpecifications.statusIn(List.of(TaskStatus.TODO))), TaskSort.DEFAULT, null);
+    }
+
+    @Test
+    @DisplayName("multiple statuses and priorities")
+    void statusesAndPriorities() {
+        assertUsesIndex(project()
+                .and(TaskSpecifications.statusIn(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS)))
+                .and(TaskSpecifications.priorityIn(List.of(Priority.HIGH))), TaskSort.DEFAULT, null);
+    }
+
+    @Test
+    @DisplayName("due-date range sorted by due date")
+    void dueDateRange() {
+        assertUsesIndex(project()
+                        .and(TaskSpecifications.dueOnOrAfter(LocalDate.now()))
+                        .and(TaskSpecifications.dueOnOrBefore(LocalDate.now().plusDays(14))),
+                new TaskSort(TaskSort.Key.DUE_DATE, Sort.Direction.ASC),
+                new TaskKeyset(LocalDate.now(), 10L));
+    }
+
+    @Test
+    @DisplayName("overdue only")
+    void overdueOnly() {
+        assertUsesIndex(project().and(TaskSpecifications.overdue(LocalDate.now())),
+                new TaskSort(TaskSort.Key.DUE_DATE, Sort.Direction.DESC), null);
+    }
+
+    @Test
+    @DisplayName("text match")
+    void textMatch() {
+        assertUsesIndex(project().and(TaskSpecifications.textMatches("task 12")), TaskSort.DEFAULT, null);
+    }
+
+    @Test
+    @DisplayName("title sort after a cursor")
+    void titleSort() {
+        assertUsesIndex(project(), new TaskSort(TaskSort.Key.TITLE, Sort.Direction.ASC), new TaskKeyset("Task 5", 5L));
+    }
+
+    private Specification<Task> project() {
+        return TaskSpecifications.inProject(projectId);
+    }
+
+    private void assertUsesIndex(Specification<Task> filter, TaskSort sort, TaskKeyset after) {
+        List<Task> tasks = taskRepository.findSlice(filter, sort, after, 51);
+        assertThat(tasks).isNotNull();
+
+        List<String> selects = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.contains(" from tasks "))
+                .toList();
+        assertThat(selects).as("statements per query").hasSize(1);
+
+        String plan = explain(selects.get(0));
+        assertThat(plan).as(plan).doesNotContain("Seq Scan on tasks").contains("Index");
+    }
+
+    private String explain(String sql) {
+        StringBuilder positional = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                positional.append('$').append(++parameter);
+            } else {
+                positional.append(c);
+            }
+        }
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + positional, String.class));
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.taskflow.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the native full-text search query against PostgreSQL with the Flyway schema.
+ * Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Task full-text search")
+class TaskSearchTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Long ownerId;
+    private Long titleMatchId;
+    private Long descriptionMatchId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = user("owner@test.com");
+        Long ownerProject = project(ownerId, "Website");
+        Long otherProject = project(user("other@test.com"), "Secret");
+
+        descriptionMatchId = task(ownerProject, "Update footer", "The footer should link to the invoices page");
+        titleMatchId = task(ownerProject, "Send invoices", "Monthly run for all customers");
+        task(ownerProject, "Plan sprint", "Nothing relevant here");
+        task(otherProject, "Invoices for other", "Belongs to someone else");
+    }
+
+    @Test
+    @DisplayName("ranks title matches first and only returns the caller's tasks")
+    void search_ShouldRankAndScopeToOwner() {
+        List<TaskRepository.SearchHit> hits = taskRepository.search(ownerId, "invoice", 10, 0);
+
+        assertThat(hits).extracting(TaskRepository.SearchHit::getId)
+                .containsExactly(titleMatchId, descriptionMatchId);
+        assertThat(hits.get(0).getProjectName()).isEqualTo("Website");
+        assertThat(hits.get(0).getRank()).isGreaterThan(hits.get(1).getRank());
+    }
+
+    @Test
+    @DisplayName("wraps matched terms in highlight markers")
+    void search_ShouldHighlightMatches() {
+        TaskRepository.SearchHit hit = taskRepository.search(ownerId, "invoices", 10, 0).get(0);
+
+        String marked = TaskRepository.HIGHLIGHT_START + "invoices" + TaskRepository.HIGHLIGHT_STOP;
+        assertThat(hit.getTitleHighlight()).isEqualTo("Send " + marked);
+        assertThat(taskRepository.search(ownerId, "footer invoices", 10, 0).get(0).getSnippet())
+                .contains(marked);
+    }
+
+    @Test
+    @DisplayName("pages with limit and offset")
+    void search_ShouldPage() {
+        assertThat(taskRepository.search(ownerId, "invoice", 1, 1))
+                .extracting(TaskRepository.SearchHit::getId)
+                .containsExactly(descriptionMatchId);
+    }
+
+    @Test
+    @DisplayName("uses the GIN index on the search vector")
+    void search_ShouldUseSearchIndex() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM tasks WHERE search_vector @@ websearch_to_tsquery('english', 'invoice')",
+                String.class));
+
+        assertThat(plan).contains("idx_tasks_search_vector");
+    }
+
+    private Long user(String email) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (name, email, password) VALUES ('User', ?, 'x') RETURNING id", Long.class, email);
+    }
+
+    private Long project(Long ownerId, String name) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO projects (name, owner_id) VALUES (?, ?) RETURNING id", Long.class, name, ownerId);
+    }
+
+    private Long task(Long projectId, String title, String description) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO tasks (title, description, status, priority, project_id)
+                VALUES (?, ?, 'TODO', 'MEDIUM', ?) RETURNING id
+                """, Long.class, title, description, projectId);
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskflow.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JwtService Unit Tests")
+class JwtServiceTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-testing-hs256";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtService jwtService;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(SECRET, 60_000L, 100, Duration.ofMinutes(1), meterRegistry);
+        userDetails = User.withUsername("john@test.com").password("").authorities(List.of()).build();
+    }
+
+    @Test
+    @DisplayName("Should verify a generated token in a single pass")
+    void verify_ShouldReturnVerifiedClaims() {
+        String token = jwtService.generateToken(userDetails);
+
+        JwtService.VerifiedToken verified = jwtService.verify(token);
+
+        assertThat(verified.subject()).isEqualTo("john@test.com");
+        assertThat(verified.expiresAt()).isAfter(verified.issuedAt());
+        assertThat(jwtService.isTokenValid(verified, userDetails)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should return the cached verification for a repeated token")
+    void verify_WhenRepeated_ShouldHitCache() {
+        String token = jwtService.generateToken(userDetails);
+
+        assertThat(jwtService.verify(token)).isSameAs(jwtService.verify(token));
+    }
+
+    @Test
+    @DisplayName("Should time verifications by cache hit, full verification and rejection")
+    void verify_ShouldRecordTimerByResult() {
+        String token = jwtService.generateToken(userDetails);
+        String forged = new JwtService(SECRET + "-other", 60_000L, 100, Duration.ofMinutes(1), new SimpleMeterRegistry())
+                .generateToken(userDetails);
+
+        jwtService.verify(token);
+        jwtService.verify(token);
+        assertThatThrownBy(() -> jwtService.verify(forged)).isInstanceOf(SignatureException.class);
+
+        assertThat(meterRegistry.get("jwt.verification").tag("result", "verified").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verification").tag("result", "cached").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verification").tag("result", "rejected").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should carry the user id of an authenticated user")
+    void generateToken_ShouldIncludeUserId() {
+        AuthenticatedUser user = new AuthenticatedUser(7L, "john@test.com", "", List.of());
+
+        JwtService.VerifiedToken verified = jwtService.verify(jwtService.generateToken(user));
+
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(jwtService.isTokenValid(verified, user)).isTrue();
+        assertThat(jwtService.verify(jwtService.generateToken(userDetails)).userId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a token issued to an earlier account with the same email")
+    void isTokenValid_WhenUserIdDiffers_ShouldReturnFalse() {
+        String token = jwtService.generateToken(new AuthenticatedUser(7L, "john@test.com", "", List.of()));
+
+        AuthenticatedUser recreated = new AuthenticatedUser(8L, "john@test.com", "", List.of());
+
+        assertThat(jwtService.isTokenValid(jwtService.verify(token), recreated)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject a token signed with another key")
+    void verify_WhenSignatureInvalid_ShouldThrow() {
+        JwtService other = new JwtService(SECRET + "-other", 60_000L, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        String token = other.generateToken(userDetails);
+
+        assertThatThrownBy(() -> jwtService.verify(token)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void verify_WhenExpired_ShouldThrow() {
+        JwtService shortLived = new JwtService(SECRET, -1_000L, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        String token = shortLived.generateToken(userDetails);
+
+        assertThatThrownBy(() -> jwtService.verify(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.taskflow.security;
+
+import com.taskflow.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PasswordVerifier Unit Tests")
+class PasswordVerifierTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should check passwords and flag hashes of another BCrypt cost for rehashing")
+    void matches_ShouldCheckAndDetectOtherCosts() {
+        PasswordVerifier verifier = new PasswordVerifier(new CostAwareBCryptPasswordEncoder(5), meterRegistry, executor);
+        String current = verifier.encode("secret");
+
+        assertThat(verifier.matches("secret", current)).isTrue();
+        assertThat(verifier.matches("wrong", current)).isFalse();
+        assertThat(verifier.needsRehash(current)).isFalse();
+        assertThat(verifier.needsRehash(new CostAwareBCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(verifier.needsRehash(new CostAwareBCryptPasswordEncoder(6).encode("secret"))).isTrue();
+        assertThat(verifier.needsRehash("not-a-bcrypt-hash")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should do a check against a dummy hash for unknown users and fail it")
+    void matches_WithoutHash_ShouldCheckDummyAndFail() {
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenReturn("dummy");
+        when(passwordEncoder.matches(any(), eq("dummy"))).thenReturn(true);
+        PasswordVerifier verifier = new PasswordVerifier(passwordEncoder, meterRegistry, executor);
+
+        assertThat(verifier.matches("secret", null)).isFalse();
+        verify(passwordEncoder).matches("secret", "dummy");
+    }
+
+    @Test
+    @DisplayName("Should reject checks at once when the queue is full")
+    void matches_WhenSaturated_ShouldThrowTooManyRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.matches(any(), any())).thenAnswer(invocation -> release.await(10, TimeUnit.SECONDS));
+        PasswordVerifier verifier = new PasswordVerifier(passwordEncoder, meterRegistry, executor);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> verifier.matches("a", "hash"));
+        await().atMost(Duration.ofSeconds(10)).until(() -> executor.getActiveCount() == 1);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> verifier.matches("b", "hash"));
+        await().atMost(Duration.ofSeconds(10)).until(() -> executor.getQueue().size() == 1);
+
+        assertThatThrownBy(() -> verifier.matches("c", "hash")).isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get("security.password.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,77 @@
+package com.taskflow.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PrincipalCache Unit Tests")
+class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should load a principal once for concurrent misses, without its password")
+    void get_WithConcurrentMisses_ShouldLoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<AuthenticatedUser> first = executor.submit(() -> principalCache.get("john@test.com", email -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return new AuthenticatedUser(1L, email, "hash", List.of());
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<AuthenticatedUser> second = executor.submit(() -> principalCache.get("john@test.com", email -> {
+                loads.incrementAndGet();
+                return new AuthenticatedUser(1L, email, "hash", List.of());
+            }));
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+            assertThat(second.get(5, TimeUnit.SECONDS).getPassword()).isEmpty();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should rethrow a failed load as is and not cache it")
+    void get_WhenLoadFails_ShouldNotCacheFailure() {
+        assertThatThrownBy(() -> principalCache.get("ghost@test.com", email -> {
+            throw new UsernameNotFoundException("User not found: " + email);
+        })).isInstanceOf(UsernameNotFoundException.class);
+
+        AuthenticatedUser user = principalCache.get("ghost@test.com",
+                email -> new AuthenticatedUser(2L, email, "hash", List.of()));
+
+        assertThat(user.getId()).isEqualTo(2L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskflow.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RateLimitFilter Unit Tests")
+class RateLimitFilterTest {
+
+    private RateLimiter rateLimiter;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = mock(RateLimiter.class);
+        when(rateLimiter.tryAcquire(any(), anyString())).thenReturn(Duration.ZERO);
+        rateLimitFilter = new RateLimitFilter(rateLimiter, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should key authenticated requests by user and auth requests by client IP")
+    void doFilter_ShouldPickGroupAndKey() throws Exception {
+        AuthenticatedUser user = new AuthenticatedUser(7L, "user@example.com", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        rateLimitFilter.doFilter(request("POST", "/api/tasks/bulk"), new MockHttpServletResponse(), new MockFilterChain());
+        rateLimitFilter.doFilter(request("GET", "/api/projects"), new MockHttpServletResponse(), new MockFilterChain());
+        rateLimitFilter.doFilter(request("POST", "/api/auth/login"), new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        rateLimitFilter.doFilter(request("GET", "/api/projects"), new MockHttpServletResponse(), new MockFilterChain());
+        rateLimitFilter.doFilter(request("GET", "/actuator/health"), new MockHttpServletResponse(), new MockFilterChain());
+        rateLimitFilter.doFilter(request("OPTIONS", "/api/projects"), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter).tryAcquire(RateLimiter.Group.TASKS, "user:7");
+        verify(rateLimiter).tryAcquire(RateLimiter.Group.API, "user:7");
+        verify(rateLimiter).tryAcquire(RateLimiter.Group.AUTH, "ip:203.0.113.5");
+        verify(rateLimiter).tryAcquire(RateLimiter.Group.API, "ip:203.0.113.5");
+        verifyNoMoreInteractions(rateLimiter);
+    }
+
+    @Test
+    @DisplayName("Should reject requests over the limit with 429 and Retry-After in whole seconds")
+    void doFilter_OverLimit_ShouldReject() throws Exception {
+        when(rateLimiter.tryAcquire(any(), anyString())).thenReturn(Duration.ofMillis(1200));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        rateLimitFilter.doFilter(request("POST", "/api/auth/login"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("\"status\":429");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr("203.0.113.5");
+        return request;
+    }
+}
@@ -0,0 +1,116 @@
+package com.taskflow.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RateLimiter Unit Tests")
+class RateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+
+    private RateLimiter rateLimiter(int capacity, Duration period, long maxKeys) {
+        RateLimiter.Limit limit = new RateLimiter.Limit(capacity, period);
+        return new RateLimiter(Map.of(RateLimiter.Group.AUTH, limit, RateLimiter.Group.TASKS, limit,
+                RateLimiter.Group.API, limit), maxKeys, meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("Should allow a burst of the capacity, then one request per interval")
+    void tryAcquire_BeyondCapacity_ShouldRejectUntilRefilled() {
+        RateLimiter rateLimiter = rateLimiter(3, Duration.ofSeconds(3), 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(RateLimiter.Group.API, "user:1")).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Group.API, "user:1")).isEqualTo(Duration.ofSeconds(1));
+
+        now.addAndGet(Duration.ofMillis(400).toNanos());
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Group.API, "user:1")).isEqualTo(Duration.ofMillis(600));
+
+        now.addAndGet(Duration.ofMillis(600).toNanos());
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Group.API, "user:1")).isZero();
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Group.API, "user:1")).isPositive();
+        assertThat(meterRegistry.get("security.ratelimit.rejected").tag("group", "api").counter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per key and per group")
+    void tryAcquire_ShouldSeparateKeysAndGroups() {
+        RateLimiter rateLimiter = rateLimiter(1, Duration.ofMinutes(1), 100);
+
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Group.API, "user:1")).isZero();
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Group.API, "user:1")).isPositive();
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Group.API, "user:2")).isZero();
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Group.TASKS, "user:1")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep at most max-keys buckets and sweep the ones that refilled")
+    void sweep_ShouldBoundBuckets() {
+        RateLimiter rateLimiter = rateLimiter(2, Duration.ofSeconds(10), 50);
+
+        for (int i = 0; i < 200; i++) {
+            rateLimiter.tryAcquire(RateLimiter.Group.AUTH, "ip:10.0.0." + i);
+        }
+        assertThat(rateLimiter.size(RateLimiter.Group.AUTH)).isLessThanOrEqualTo(50);
+
+        rateLimiter.tryAcquire(RateLimiter.Group.API, "user:1");
+        rateLimiter.tryAcquire(RateLimiter.Group.API, "user:2");
+        rateLimiter.tryAcquire(RateLimiter.Group.API, "user:2");
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        rateLimiter.sweep();
+        assertThat(rateLimiter.size(RateLimiter.Group.API)).isEqualTo(1);
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Group.API, "user:2")).isZero();
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Group.API, "user:2")).isPositive();
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        rateLimiter.sweep();
+        assertThat(rateLimiter.size(RateLimiter.Group.AUTH)).isZero();
+        assertThat(rateLimiter.size(RateLimiter.Group.API)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly the capacity to concurrent requests on one bucket")
+    void tryAcquire_Concurrently_ShouldNotOverspend() throws Exception {
+        RateLimiter rateLimiter = rateLimiter(500, Duration.ofMinutes(1), 100);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int t = 0; t < 8; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+                    for (int i = 0; i < 200; i++) {
+                        if (rateLimiter.tryAcquire(RateLimiter.Group.API, "user:1").isZero()) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(500);
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskflow.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TimedPasswordEncoder Unit Tests")
+class TimedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(4), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should delegate to the wrapped encoder and time every call")
+    void encodeAndMatches_ShouldDelegateAndRecord() {
+        String hash = passwordEncoder.encode("password123");
+
+        assertThat(passwordEncoder.matches("password123", hash)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("security.password.encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.password.matches").timer().count()).isEqualTo(2);
+    }
+}
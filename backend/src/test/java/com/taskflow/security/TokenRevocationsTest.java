@@ -0,0 +1,90 @@
+package com.taskflow.security;
+
+import com.taskflow.entity.TokenRevocation;
+import com.taskflow.repository.TokenRevocationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TokenRevocations Unit Tests")
+class TokenRevocationsTest {
+
+    private TokenRevocationRepository repository;
+    private TokenRevocations revocations;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TokenRevocationRepository.class);
+        when(repository.save(any(TokenRevocation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        revocations = new TokenRevocations(repository, 900_000L, 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should revoke a user's tokens below the new version only")
+    void revokeUser_ShouldRejectOlderVersions() {
+        revocations.revokeUser(1L, 2);
+
+        assertThat(revocations.isRevoked(token(1L, 0, "a"))).isTrue();
+        assertThat(revocations.isRevoked(token(1L, 1, "b"))).isTrue();
+        assertThat(revocations.isRevoked(token(1L, 2, "c"))).isFalse();
+        assertThat(revocations.isRevoked(token(2L, 0, "d"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should revoke a single token by id")
+    void revokeToken_ShouldRejectThatTokenOnly() {
+        revocations.revokeToken(1L, "logged-out", Instant.now().plusSeconds(600));
+
+        assertThat(revocations.isRevoked(token(1L, 0, "logged-out"))).isTrue();
+        assertThat(revocations.isRevoked(token(1L, 0, "other-session"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should pick up other instances' revocations and drop expired ones on sync")
+    void sync_ShouldLoadStoredAndDropExpired() {
+        revocations.revokeToken(1L, "expired", Instant.now().minusSeconds(1));
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(TokenRevocation.builder()
+                .userId(3L)
+                .minVersion(1)
+                .expiresAt(LocalDateTime.now().plusMinutes(15))
+                .build()));
+
+        revocations.sync();
+
+        assertThat(revocations.isRevoked(token(3L, 0, "x"))).isTrue();
+        assertThat(revocations.isRevoked(token(1L, 0, "expired"))).isFalse();
+        assertThat(revocations.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer for many revocations, past the expected count")
+    void isRevoked_WithManyRevocations_ShouldStayExact() {
+        for (long userId = 0; userId < 1000; userId++) {
+            revocations.revokeUser(userId, 1);
+        }
+
+        for (long userId = 0; userId < 2000; userId++) {
+            assertThat(revocations.isRevoked(token(userId, 0, "t" + userId))).isEqualTo(userId < 1000);
+        }
+    }
+
+    private static JwtService.VerifiedToken token(Long userId, int version, String tokenId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JwtService.USER_ID_CLAIM, userId);
+        claims.put(JwtService.TOKEN_VERSION_CLAIM, version);
+        claims.put("jti", tokenId);
+        return new JwtService.VerifiedToken("user" + userId + "@test.com", Instant.now(),
+                Instant.now().plusSeconds(900), claims);
+    }
+}
@@ -5,7 +5,10 @@ import com.taskflow.entity.Role;
 import com.taskflow.entity.User;
 import com.taskflow.exception.DuplicateResourceException;
 import com.taskflow.repository.UserRepository;
+import com.taskflow.security.AuthenticatedUser;
 import com.taskflow.security.JwtService;
+import com.taskflow.security.PasswordVerifier;
+import com.taskflow.security.TokenRevocations;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,13 +16,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.BadCredentialsException;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -31,16 +32,15 @@ import static org.mockito.Mockito.*;
 class AuthServiceTest {
 
     @Mock private UserRepository userRepository;
-    @Mock private PasswordEncoder passwordEncoder;
+    @Mock private PasswordVerifier passwordVerifier;
     @Mock private JwtService jwtService;
-    @Mock private AuthenticationManager authenticationManager;
-    @Mock private UserDetailsService userDetailsService;
+    @Mock private RefreshTokenService refreshTokenService;
+    @Mock private TokenRevocations tokenRevocations;
 
     @InjectMocks
     private AuthService authService;
 
     private User savedUser;
-    private UserDetails mockUserDetails;
 
     @BeforeEach
     void setUp() {
@@ -52,12 +52,6 @@ class AuthServiceTest {
                 .role(Role.USER)
                 .createdAt(LocalDateTime.now())
                 .build();
-
-        mockUserDetails = org.springframework.security.core.userdetails.User.builder()
-                .username("john@test.com")
-                .password("encoded_password")
-                .authorities(List.of())
-                .build();
     }
 
     @Test
@@ -69,10 +63,9 @@ class AuthServiceTest {
         request.setPassword("password123");
 
         when(userRepository.existsByEmail("john@test.com")).thenReturn(false);
-        when(passwordEncoder.encode("password123")).thenReturn("encoded_password");
+        when(passwordVerifier.encode("password123")).thenReturn("encoded_password");
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
-        when(userDetailsService.loadUserByUsername("john@test.com")).thenReturn(mockUserDetails);
-        when(jwtService.generateToken(mockUserDetails)).thenReturn("mocked.jwt.token");
+        when(jwtService.generateToken(any(AuthenticatedUser.class))).thenReturn("mocked.jwt.token");
 
         AuthDto.AuthResponse response = authService.register(request);
 
@@ -96,6 +89,7 @@ class AuthServiceTest {
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessageContaining("john@test.com");
 
+        verify(passwordVerifier, never()).encode(any());
         verify(userRepository, never()).save(any());
     }
 
@@ -107,12 +101,99 @@ class AuthServiceTest {
         request.setPassword("password123");
 
         when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(savedUser));
-        when(userDetailsService.loadUserByUsername("john@test.com")).thenReturn(mockUserDetails);
-        when(jwtService.generateToken(mockUserDetails)).thenReturn("mocked.jwt.token");
+        when(passwordVerifier.matches("password123", "encoded_password")).thenReturn(true);
+        when(jwtService.generateToken(any(AuthenticatedUser.class))).thenReturn("mocked.jwt.token");
+        when(refreshTokenService.issue(savedUser)).thenReturn("refresh-token");
 
         AuthDto.AuthResponse response = authService.login(request);
 
         assertThat(response.getToken()).isEqualTo("mocked.jwt.token");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
         assertThat(response.getEmail()).isEqualTo("john@test.com");
+        verify(userRepository, times(1)).findByEmail("john@test.com");
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a wrong password")
+    void login_WithWrongPassword_ShouldThrowBadCredentials() {
+        AuthDto.LoginRequest request = loginRequest("john@test.com", "wrong");
+
+        when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(savedUser));
+        when(passwordVerifier.matches("wrong", "encoded_password")).thenReturn(false);
+
+        assertThatThrownBy(() -> authService.login(request)).isInstanceOf(BadCredentialsException.class);
+        verify(jwtService, never()).generateToken(any());
+    }
+
+    @Test
+    @DisplayName("Should still check the password of an unknown email, then reject it")
+    void login_WithUnknownEmail_ShouldThrowBadCredentials() {
+        AuthDto.LoginRequest request = loginRequest("nobody@test.com", "password123");
+
+        when(userRepository.findByEmail("nobody@test.com")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> authService.login(request)).isInstanceOf(BadCredentialsException.class);
+        verify(passwordVerifier).matches("password123", null);
+    }
+
+    @Test
+    @DisplayName("Should rehash a password stored at another cost after it matched")
+    void login_WithOutdatedHash_ShouldRehash() {
+        AuthDto.LoginRequest request = loginRequest("john@test.com", "password123");
+
+        when(userRepository.findByEmail("john@test.com")).thenReturn(Optional.of(savedUser));
+        when(passwordVerifier.matches("password123", "encoded_password")).thenReturn(true);
+        when(passwordVerifier.needsRehash("encoded_password")).thenReturn(true);
+        when(passwordVerifier.encode("password123")).thenReturn("rehashed_password");
+
+        authService.login(request);
+
+        assertThat(savedUser.getPassword()).isEqualTo("rehashed_password");
+        verify(userRepository).save(savedUser);
+    }
+
+    @Test
+    @DisplayName("Should exchange a refresh token for new access and refresh tokens")
+    void refresh_ShouldReturnRotatedTokens() {
+        AuthDto.RefreshRequest request = refreshRequest("old-refresh");
+
+        when(refreshTokenService.rotate("old-refresh"))
+                .thenReturn(new RefreshTokenService.Rotation(savedUser, "new-refresh"));
+        when(jwtService.generateToken(any(AuthenticatedUser.class))).thenReturn("new.jwt.token");
+        when(jwtService.getExpiration()).thenReturn(900_000L);
+
+        AuthDto.AuthResponse response = authService.refresh(request);
+
+        assertThat(response.getToken()).isEqualTo("new.jwt.token");
+        assertThat(response.getRefreshToken()).isEqualTo("new-refresh");
+        assertThat(response.getExpiresIn()).isEqualTo(900);
+    }
+
+    @Test
+    @DisplayName("Should end the refresh token's session and revoke the access token on logout")
+    void logout_ShouldRevokeBothTokens() {
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        JwtService.VerifiedToken token = new JwtService.VerifiedToken("john@test.com", Instant.now(), expiresAt,
+                Map.of(JwtService.USER_ID_CLAIM, 1L, "jti", "token-id"));
+        when(jwtService.verify("access.jwt.token")).thenReturn(token);
+
+        authService.logout(refreshRequest("refresh"), "access.jwt.token");
+
+        verify(refreshTokenService).revoke("refresh");
+        verify(tokenRevocations).revokeToken(1L, "token-id", expiresAt);
+    }
+
+    private AuthDto.RefreshRequest refreshRequest(String refreshToken) {
+        AuthDto.RefreshRequest request = new AuthDto.RefreshRequest();
+        request.setRefreshToken(refreshToken);
+        return request;
+    }
+
+    private AuthDto.LoginRequest loginRequest(String email, String password) {
+        AuthDto.LoginRequest request = new AuthDto.LoginRequest();
+        request.setEmail(email);
+        request.setPassword(password);
+        return request;
     }
 }
@@ -0,0 +1,199 @@
+package com.taskflow.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.dto.TaskDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ChangeEventBroker Unit Tests")
+class ChangeEventBrokerTest {
+
+    private static final int QUEUE_CAPACITY = 4;
+    private static final int REPLAY_CAPACITY = 8;
+
+    // Dispatcher work runs only when a test calls dispatch().
+    private final Queue<Runnable> dispatcher = new ArrayDeque<>();
+    private ChangeEventBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        broker = new ChangeEventBroker(new ObjectMapper().findAndRegisterModules(), dispatcher::add,
+                Duration.ofMinutes(1), QUEUE_CAPACITY, REPLAY_CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Should stream changes to the project and the owner's task deletes only")
+    void publish_ShouldReachStreamsOfTheProject() {
+        RecordingEmitter stream = subscribe(1L, 10L, null);
+
+        broker.publish(ChangeEvent.taskCreated(1L, task(100L, 10L, "Mine")));
+        broker.publish(ChangeEvent.taskCreated(1L, task(101L, 11L, "Other project")));
+        broker.publish(ChangeEvent.taskDeleted(1L, 102L));
+        broker.publish(ChangeEvent.taskCreated(2L, task(103L, 10L, "Other owner")));
+        dispatch();
+
+        assertThat(stream.names()).containsExactly("ready", "task-created", "task-deleted");
+        assertThat(stream.messages.get(1)).contains("\"title\":\"Mine\"");
+        assertThat(stream.messages.get(2)).contains("data:{\"id\":102}");
+    }
+
+    @Test
+    @DisplayName("Should replay what a reconnecting client missed")
+    void subscribe_WithLastEventId_ShouldReplayMissedEvents() {
+        RecordingEmitter first = subscribe(1L, 10L, null);
+        broker.publish(ChangeEvent.taskCreated(1L, task(100L, 10L, "Seen")));
+        dispatch();
+
+        broker.publish(ChangeEvent.taskUpdated(1L, task(100L, 10L, "Missed")));
+        broker.publish(ChangeEvent.tasksChanged(1L, 11L));
+        RecordingEmitter second = subscribe(1L, 10L, first.ids().get(1));
+
+        assertThat(second.names()).containsExactly("task-updated", "ready");
+        assertThat(second.messages.get(0)).contains("Missed");
+    }
+
+    @Test
+    @DisplayName("Should ask for a resync when missed events are no longer buffered")
+    void subscribe_WithUnknownPosition_ShouldAskForResync() {
+        RecordingEmitter first = subscribe(1L, 10L, null);
+        String start = first.ids().get(0);
+        IntStream.range(0, REPLAY_CAPACITY + 1).forEach(i -> broker.publish(ChangeEvent.tasksChanged(1L, 11L)));
+        dispatch();
+
+        assertThat(subscribe(1L, 10L, start).names()).containsExactly("resync", "ready");
+        assertThat(subscribe(1L, 10L, "restarted-3").names()).containsExactly("resync", "ready");
+    }
+
+    @Test
+    @DisplayName("Should ask for a resync instead of failing on a negative position")
+    void subscribe_WithNegativePosition_ShouldAskForResync() {
+        String start = subscribe(1L, 10L, null).ids().get(0);
+        String epoch = start.substring(0, start.indexOf('-'));
+        broker.publish(ChangeEvent.tasksChanged(1L, 10L));
+        broker.publish(ChangeEvent.tasksChanged(1L, 10L));
+
+        assertThat(subscribe(1L, 10L, epoch + "--5").names()).containsExactly("resync", "ready");
+        assertThat(subscribe(1L, 10L, epoch + "--1").names()).containsExactly("resync", "ready");
+        assertThat(subscribe(1L, 10L, epoch + "-0").names()).containsExactly("tasks-changed", "tasks-changed", "ready");
+    }
+
+    @Test
+    @DisplayName("Should replace the queue of a stream that falls behind with a resync")
+    void publish_ToSlowStream_ShouldAskForResync() {
+        RecordingEmitter stream = subscribe(1L, 10L, null);
+
+        IntStream.range(0, QUEUE_CAPACITY + 2).forEach(i -> broker.publish(ChangeEvent.tasksChanged(1L, 10L)));
+        dispatch();
+        broker.publish(ChangeEvent.tasksChanged(1L, 10L));
+        dispatch();
+
+        assertThat(stream.names()).containsExactly("ready", "resync", "tasks-changed");
+    }
+
+    @Test
+    @DisplayName("Should end the streams of a deleted project")
+    void publish_ProjectDeleted_ShouldCompleteStream() {
+        RecordingEmitter stream = subscribe(1L, 10L, null);
+        RecordingEmitter otherProject = subscribe(1L, 11L, null);
+
+        broker.publish(ChangeEvent.projectDeleted(1L, 10L));
+        dispatch();
+
+        assertThat(stream.names()).containsExactly("ready", "project-deleted");
+        assertThat(stream.completed).isTrue();
+        assertThat(otherProject.completed).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should end the stream of a deleted project even when it has fallen behind")
+    void publish_ProjectDeletedToSlowStream_ShouldCompleteStream() {
+        RecordingEmitter stream = subscribe(1L, 10L, null);
+
+        IntStream.range(0, QUEUE_CAPACITY).forEach(i -> broker.publish(ChangeEvent.tasksChanged(1L, 10L)));
+        broker.publish(ChangeEvent.projectDeleted(1L, 10L));
+        dispatch();
+        broker.heartbeat();
+        dispatch();
+
+        assertThat(stream.names()).containsExactly("ready", "resync");
+        assertThat(stream.completed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should send heartbeats to idle streams")
+    void heartbeat_ShouldReachIdleStreams() {
+        RecordingEmitter stream = subscribe(1L, 10L, null);
+
+        broker.heartbeat();
+        dispatch();
+
+        assertThat(stream.names()).containsExactly("ready", "heartbeat");
+    }
+
+    private RecordingEmitter subscribe(Long ownerId, Long projectId, String lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broker.subscribe(ownerId, projectId, lastEventId, emitter);
+        dispatch();
+        return emitter;
+    }
+
+    private void dispatch() {
+        Runnable work;
+        while ((work = dispatcher.poll()) != null) {
+            work.run();
+        }
+    }
+
+    private static TaskDto.Response task(Long id, Long projectId, String title) {
+        TaskDto.Response task = new TaskDto.Response();
+        task.setId(id);
+        task.setProjectId(projectId);
+        task.setTitle(title);
+        return task;
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> messages = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            messages.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<String> names() {
+            return messages.stream()
+                    .map(message -> message.startsWith(":") ? "heartbeat" : field(message, "event:"))
+                    .toList();
+        }
+
+        List<String> ids() {
+            return messages.stream().map(message -> field(message, "id:")).toList();
+        }
+
+        private static String field(String message, String prefix) {
+            return message.lines().filter(line -> line.startsWith(prefix))
+                    .map(line -> line.substring(prefix.length()))
+                    .findFirst().orElse(null);
+        }
+    }
+}
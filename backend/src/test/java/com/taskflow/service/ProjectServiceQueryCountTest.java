@@ -0,0 +1,132 @@
+package com.taskflow.service;
+
+import com.taskflow.config.ExpectedStatements;
+import com.taskflow.config.StatementCountExtension;
+import com.taskflow.dto.ProjectDto;
+import com.taskflow.entity.*;
+import com.taskflow.security.PrincipalCache;
+import com.taskflow.security.TokenRevocations;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ProjectService.class, UserService.class})
+@DisplayName("ProjectService statement counts")
+class ProjectServiceQueryCountTest {
+
+    @Autowired private ProjectService projectService;
+    @Autowired private EntityManager entityManager;
+    @MockBean private PrincipalCache principalCache;
+    @MockBean private TokenRevocations tokenRevocations;
+
+    @RegisterExtension
+    final StatementCountExtension statements = new StatementCountExtension();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int u = 0; u < 3; u++) {
+            User owner = User.builder()
+                    .name("Owner " + u)
+                    .email("owner" + u + "@test.com")
+                    .password("encoded_password")
+                    .role(Role.USER)
+                    .build();
+            entityManager.persist(owner);
+            for (int p = 0; p < 4; p++) {
+                Project project = Project.builder().name("Project " + u + "-" + p).owner(owner).build();
+                entityManager.persist(project);
+                for (int t = 0; t < 5; t++) {
+                    entityManager.persist(Task.builder()
+                            .title("Task " + t)
+                            .status(TaskStatus.TODO)
+                            .priority(Priority.MEDIUM)
+                            .project(project)
+                            .build());
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findAll loads projects with owners, then one grouped count")
+    void findAll_ShouldUseTwoStatements() {
+        List<ProjectDto.Response> result = projectService.findAll();
+
+        assertThat(result).hasSize(12);
+        assertThat(result).allSatisfy(project -> {
+            assertThat(project.getOwner().getEmail()).startsWith("owner");
+            assertThat(project.getTaskCount()).isEqualTo(5);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("findByOwner loads the owner's projects with owners, then one grouped count")
+    @ExpectedStatements(2)
+    void findByOwner_ShouldUseTwoStatements() {
+        Long ownerId = entityManager.createQuery("SELECT u.id FROM User u WHERE u.email = 'owner0@test.com'", Long.class)
+                .getSingleResult();
+        statements.reset();
+
+        List<ProjectDto.Response> result = projectService.findByOwner(ownerId);
+
+        assertThat(result).hasSize(4);
+        assertThat(result).allSatisfy(project -> assertThat(project.getOwner().getEmail()).isEqualTo("owner0@test.com"));
+    }
+
+    @Test
+    @DisplayName("findByOwnerEmail resolves the owner, then projects with owners, then one grouped count")
+    void findByOwnerEmail_ShouldUseThreeStatements() {
+        List<ProjectDto.Response> result = projectService.findByOwnerEmail("owner1@test.com");
+
+        assertThat(result).hasSize(4);
+        assertThat(result).allSatisfy(project -> assertThat(project.getTaskCount()).isEqualTo(5));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("delete removes tasks and project with two conditional statements")
+    void delete_ShouldUseTwoStatements() {
+        Project project = entityManager.createQuery(
+                "SELECT p FROM Project p WHERE p.owner.email = 'owner2@test.com'", Project.class)
+                .setMaxResults(1)
+                .getSingleResult();
+        Long ownerId = project.getOwner().getId();
+        entityManager.clear();
+        statistics.clear();
+
+        projectService.delete(project.getId(), ownerId, null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(entityManager.find(Project.class, project.getId())).isNull();
+        assertThat(entityManager.createQuery("SELECT COUNT(t) FROM Task t WHERE t.project.id = :id", Long.class)
+                .setParameter("id", project.getId())
+                .getSingleResult()).isZero();
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.ProjectDto;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Role;
+import com.taskflow.entity.User;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.security.PrincipalCache;
+import com.taskflow.security.TokenRevocations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectService Unit Tests")
+class ProjectServiceTest {
+
+    @Mock private ProjectRepository projectRepository;
+    @Mock private TaskRepository taskRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Spy private UserService userService = new UserService(mock(UserRepository.class), mock(PrincipalCache.class),
+            mock(TokenRevocations.class));
+
+    @InjectMocks
+    private ProjectService projectService;
+
+    private User owner;
+    private Project first;
+    private Project second;
+
+    @BeforeEach
+    void setUp() {
+        owner = User.builder()
+                .id(1L)
+                .name("Test User")
+                .email("user@test.com")
+                .password("encoded_password")
+                .role(Role.USER)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        first = Project.builder().id(1L).name("First").owner(owner).createdAt(LocalDateTime.now()).build();
+        second = Project.builder().id(2L).name("Second").owner(owner).createdAt(LocalDateTime.now()).build();
+    }
+
+    @Test
+    @DisplayName("Should take task counts from a single grouped count query")
+    void findByOwnerEmail_ShouldUseGroupedTaskCounts() {
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(owner));
+        when(projectRepository.findByOwnerIdOrderByCreatedAtDesc(1L)).thenReturn(List.of(first, second));
+        when(taskRepository.countGroupedByProjectForOwner(1L)).thenReturn(List.of(taskCount(1L, 3)));
+
+        List<ProjectDto.Response> result = projectService.findByOwnerEmail("user@test.com");
+
+        assertThat(result).extracting(ProjectDto.Response::getTaskCount).containsExactly(3, 0);
+        verify(taskRepository, never()).countByProjectId(any());
+    }
+
+    @Test
+    @DisplayName("Should count tasks of a single project without loading them")
+    void findById_ShouldCountTasks() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(first));
+        when(taskRepository.countByProjectId(1L)).thenReturn(42L);
+
+        ProjectDto.Response result = projectService.findById(1L);
+
+        assertThat(result.getTaskCount()).isEqualTo(42);
+        assertThat(result.getOwner().getEmail()).isEqualTo("user@test.com");
+    }
+
+    private static TaskRepository.ProjectTaskCount taskCount(Long projectId, long count) {
+        return new TaskRepository.ProjectTaskCount() {
+            @Override
+            public Long getProjectId() {
+                return projectId;
+            }
+
+            @Override
+            public long getTaskCount() {
+                return count;
+            }
+        };
+    }
+}
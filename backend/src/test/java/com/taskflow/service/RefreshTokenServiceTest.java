@@ -0,0 +1,89 @@
+package com.taskflow.service;
+
+import com.taskflow.entity.RefreshToken;
+import com.taskflow.entity.Role;
+import com.taskflow.entity.User;
+import com.taskflow.exception.InvalidTokenException;
+import com.taskflow.repository.RefreshTokenRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(RefreshTokenService.class)
+@DisplayName("Refresh token rotation")
+class RefreshTokenServiceTest {
+
+    @Autowired private RefreshTokenService refreshTokenService;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .name("Refresher")
+                .email("refresher@test.com")
+                .password("encoded_password")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(user);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("stores only the hash and rotates to a new token of the same family")
+    void rotate_ShouldIssueNextTokenOfFamily() {
+        String first = refreshTokenService.issue(user);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(first);
+        entityManager.clear();
+
+        RefreshToken used = refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(first)).orElseThrow();
+        RefreshToken next = refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(rotation.refreshToken()))
+                .orElseThrow();
+        assertThat(rotation.user().getId()).isEqualTo(user.getId());
+        assertThat(refreshTokenRepository.findByTokenHash(first)).isEmpty();
+        assertThat(used.getUsedAt()).isNotNull();
+        assertThat(next.getUsedAt()).isNull();
+        assertThat(next.getFamilyId()).isEqualTo(used.getFamilyId());
+    }
+
+    @Test
+    @DisplayName("a reused token deletes its whole family, other sessions stay")
+    void rotate_WithReusedToken_ShouldDeleteFamily() {
+        String first = refreshTokenService.issue(user);
+        String otherSession = refreshTokenService.issue(user);
+        String second = refreshTokenService.rotate(first).refreshToken();
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(first)).isInstanceOf(InvalidTokenException.class);
+        entityManager.clear();
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(second)).isInstanceOf(InvalidTokenException.class);
+        assertThat(refreshTokenService.rotate(otherSession).refreshToken()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("logout deletes the family, unknown tokens are ignored")
+    void revoke_ShouldDeleteFamily() {
+        String first = refreshTokenService.issue(user);
+        String second = refreshTokenService.rotate(first).refreshToken();
+
+        refreshTokenService.revoke(second);
+        refreshTokenService.revoke("unknown");
+        entityManager.clear();
+
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,269 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.ProjectDto;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.*;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.security.PrincipalCache;
+import com.taskflow.security.TokenRevocations;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Second-level cache hits and invalidation. Cached entries only become visible to other sessions
+ * after a commit, so every step here runs in its own transaction and the data is removed afterwards.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({TaskService.class, TaskBulkService.class, TaskExportService.class, ProjectService.class, UserService.class,
+        JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Second-level cache")
+class SecondLevelCacheTest {
+
+    private static final String OWNER_EMAIL = "cached-owner@test.com";
+
+    @Autowired private TaskService taskService;
+    @Autowired private ProjectService projectService;
+    @Autowired private UserService userService;
+    @Autowired private TaskBulkService taskBulkService;
+    @Autowired private TaskExportService taskExportService;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @MockBean private PrincipalCache principalCache;
+    @MockBean private TokenRevocations tokenRevocations;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private Cache cache;
+    private Long ownerId;
+    private Long projectId;
+    private List<Long> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        cache = sessionFactory.getCache();
+
+        transaction.executeWithoutResult(status -> {
+            User owner = User.builder()
+                    .name("Owner")
+                    .email(OWNER_EMAIL)
+                    .password("encoded_password")
+                    .role(Role.USER)
+                    .build();
+            entityManager.persist(owner);
+            Project project = Project.builder().name("Cached").owner(owner).build();
+            entityManager.persist(project);
+            taskIds = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                Task task = Task.builder()
+                        .title("Task " + i)
+                        .status(TaskStatus.TODO)
+                        .priority(Priority.MEDIUM)
+                        .project(project)
+                        .build();
+                entityManager.persist(task);
+                taskIds.add(task.getId());
+            }
+            ownerId = owner.getId();
+            projectId = project.getId();
+        });
+        // Inserted rows are cached on commit; start every test from a cold cache.
+        cache.evictAllRegions();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM projects");
+        jdbcTemplate.update("DELETE FROM users");
+        cache.evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("repeated task reads do not touch the database")
+    void repeatedReads_ShouldBeServedFromCache() {
+        Long taskId = taskIds.get(0);
+        taskService.findById(taskId);
+        assertThat(statistics.getPrepareStatementCount()).isPositive();
+
+        statistics.clear();
+        TaskDto.Response task = taskService.findById(taskId);
+
+        assertThat(task.getTitle()).isEqualTo("Task 0");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("repeated project reads only run the task count")
+    void repeatedProjectReads_ShouldOnlyCountTasks() {
+        projectService.findById(projectId);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        ProjectDto.Response project = projectService.findById(projectId);
+
+        assertThat(project.getOwner().getEmail()).isEqualTo(OWNER_EMAIL);
+        assertThat(project.getTaskCount()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("projects").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("updates replace the cached entry")
+    void update_ShouldRefreshCachedProject() {
+        projectService.findById(projectId);
+        ProjectDto.Request request = new ProjectDto.Request();
+        request.setName("Renamed");
+
+        projectService.update(projectId, request, ownerId, null);
+
+        assertThat(projectService.findById(projectId).getName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    @DisplayName("creating a task evicts the cached task collection of its project")
+    void create_ShouldEvictProjectTasks() {
+        assertThat(projectTaskCount()).isEqualTo(3);
+        assertThat(cache.containsCollection(Project.class.getName() + ".tasks", projectId)).isTrue();
+
+        TaskDto.Request request = new TaskDto.Request();
+        request.setTitle("New");
+        request.setStatus(TaskStatus.TODO);
+        request.setPriority(Priority.LOW);
+        request.setProjectId(projectId);
+        taskService.create(request, ownerId);
+
+        assertThat(projectTaskCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("deleting a project evicts its cascaded tasks")
+    void deleteProject_ShouldEvictTasks() {
+        taskIds.forEach(taskService::findById);
+        projectTaskCount();
+        assertThat(cache.containsEntity(Task.class, taskIds.get(0))).isTrue();
+
+        projectService.delete(projectId, ownerId, null);
+
+        assertThat(projectRepository.findById(projectId)).isEmpty();
+        assertThat(taskIds).allMatch(id -> taskRepository.findById(id).isEmpty());
+    }
+
+    @Test
+    @DisplayName("deleting a user evicts its cascaded projects and tasks")
+    void deleteUser_ShouldEvictProjectsAndTasks() {
+        taskIds.forEach(taskService::findById);
+        projectService.findById(projectId);
+
+        assertThat(cache.containsEntity(Project.class, projectId)).isTrue();
+
+        userService.delete(ownerId);
+
+        assertThat(userRepository.findById(ownerId)).isEmpty();
+        assertThat(projectRepository.findById(projectId)).isEmpty();
+        assertThat(taskIds).allMatch(id -> taskRepository.findById(id).isEmpty());
+    }
+
+    @Test
+    @DisplayName("deleting a task evicts that task and its project's task list only")
+    void deleteTask_ShouldEvictOnlyThatTask() {
+        taskIds.forEach(taskService::findById);
+        assertThat(projectTaskCount()).isEqualTo(3);
+
+        taskService.delete(taskIds.get(0), ownerId, null);
+        statistics.clear();
+        taskService.findById(taskIds.get(1));
+        taskService.findById(taskIds.get(2));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(taskRepository.findById(taskIds.get(0))).isEmpty();
+        assertThat(projectTaskCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("bulk deletes evict the deleted tasks only")
+    void bulkDelete_ShouldEvictOnlyDeletedTasks() {
+        taskIds.forEach(taskService::findById);
+        assertThat(projectTaskCount()).isEqualTo(3);
+        TaskDto.BulkRequest request = new TaskDto.BulkRequest();
+        request.setDelete(taskIds.subList(0, 2));
+
+        taskBulkService.apply(request, ownerId);
+        statistics.clear();
+        taskService.findById(taskIds.get(2));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(taskIds.subList(0, 2)).allMatch(id -> taskRepository.findById(id).isEmpty());
+        assertThat(projectTaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("exports neither fill nor invalidate the task region")
+    void export_ShouldBypassCache() throws Exception {
+        taskService.findById(taskIds.get(0));
+        statistics.clear();
+
+        taskExportService.export(projectId, TaskFileFormat.NDJSON, new ByteArrayOutputStream());
+
+        assertThat(statistics.getDomainDataRegionStatistics("tasks").getPutCount()).isZero();
+        statistics.clear();
+        taskService.findById(taskIds.get(0));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("batch deletes invalidate cached tasks")
+    void deleteInBatch_ShouldEvictTasks() {
+        taskIds.forEach(taskService::findById);
+        assertThat(projectTaskCount()).isEqualTo(3);
+
+        transaction.executeWithoutResult(status -> taskRepository.deleteAllByIdInBatch(taskIds));
+
+        assertThat(taskIds).allMatch(id -> taskRepository.findById(id).isEmpty());
+        assertThat(projectTaskCount()).isZero();
+    }
+
+    private int projectTaskCount() {
+        return transaction.execute(status -> entityManager.find(Project.class, projectId).getTasks().size());
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({TaskBulkService.class, TaskService.class})
+@DisplayName("TaskBulkService statement counts")
+class TaskBulkServiceBatchingTest {
+
+    @Autowired private TaskBulkService taskBulkService;
+    @Autowired private EntityManager entityManager;
+
+    private Project project;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User owner = User.builder()
+                .name("Owner")
+                .email("owner@test.com")
+                .password("encoded_password")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(owner);
+        project = Project.builder().name("Bulk").owner(owner).build();
+        entityManager.persist(project);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("creates 100 tasks with batched inserts and pooled ids")
+    void apply_ShouldBatchInserts() {
+        TaskDto.BulkRequest request = new TaskDto.BulkRequest();
+        request.setCreate(IntStream.range(0, 100).mapToObj(i -> create("Task " + i)).toList());
+
+        TaskDto.BulkResponse response = taskBulkService.apply(request, project.getOwner().getId());
+        entityManager.flush();
+
+        assertThat(response.getSucceeded()).isEqualTo(100);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(100);
+        // project lookup + 2-3 sequence calls + 2 insert batches
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("updates and deletes with one lookup, batched updates and one delete statement")
+    void apply_ShouldBatchUpdatesAndDeletes() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Task task = Task.builder().title("Task " + i).status(TaskStatus.TODO).priority(Priority.LOW)
+                    .project(entityManager.getReference(Project.class, project.getId())).build();
+            entityManager.persist(task);
+            ids.add(task.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        TaskDto.BulkRequest request = new TaskDto.BulkRequest();
+        request.setUpdate(ids.subList(0, 40).stream().map(this::update).toList());
+        request.setDelete(ids.subList(40, 60));
+
+        TaskDto.BulkResponse response = taskBulkService.apply(request, project.getOwner().getId());
+        entityManager.flush();
+
+        assertThat(response.getFailed()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(40);
+        // task lookup + one update batch + one delete statement
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    private TaskDto.Request create(String title) {
+        TaskDto.Request request = new TaskDto.Request();
+        request.setTitle(title);
+        request.setProjectId(project.getId());
+        return request;
+    }
+
+    private TaskDto.BulkUpdate update(Long id) {
+        TaskDto.BulkUpdate update = new TaskDto.BulkUpdate();
+        update.setId(id);
+        update.setTitle("Updated");
+        update.setStatus(TaskStatus.DONE);
+        update.setPriority(Priority.HIGH);
+        return update;
+    }
+}
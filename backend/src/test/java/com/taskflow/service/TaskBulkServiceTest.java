@@ -0,0 +1,149 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.*;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TaskBulkService Unit Tests")
+class TaskBulkServiceTest {
+
+    private TaskRepository taskRepository;
+    private ProjectRepository projectRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private TaskBulkService taskBulkService;
+
+    private Project ownProject;
+    private Project foreignProject;
+    private Task ownTask;
+    private Task foreignTask;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        projectRepository = mock(ProjectRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        taskBulkService = new TaskBulkService(taskRepository, projectRepository,
+                new TaskService(taskRepository, projectRepository, eventPublisher), eventPublisher, 10);
+
+        User owner = User.builder().id(1L).email("user@test.com").role(Role.USER).build();
+        User stranger = User.builder().id(2L).email("other@test.com").role(Role.USER).build();
+        ownProject = Project.builder().id(1L).name("Own").owner(owner).build();
+        foreignProject = Project.builder().id(2L).name("Foreign").owner(stranger).build();
+        ownTask = task(10L, ownProject);
+        foreignTask = task(20L, foreignProject);
+    }
+
+    @Test
+    @DisplayName("Should load referenced tasks and projects once and report each operation")
+    void apply_ShouldReportPerItemResults() {
+        when(taskRepository.findByIdIn(Set.of(10L, 20L, 99L))).thenReturn(List.of(ownTask, foreignTask));
+        when(projectRepository.findByIdIn(Set.of(1L, 2L))).thenReturn(List.of(ownProject, foreignProject));
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(100L));
+            return tasks;
+        });
+
+        TaskDto.BulkRequest request = new TaskDto.BulkRequest();
+        request.setCreate(List.of(create(1L), create(2L)));
+        request.setUpdate(List.of(update(10L, "Renamed"), update(20L, "Hijacked")));
+        request.setDelete(List.of(10L, 99L));
+
+        TaskDto.BulkResponse response = taskBulkService.apply(request, 1L);
+
+        assertThat(response.getSucceeded()).isEqualTo(3);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getResults())
+                .extracting(TaskDto.BulkResult::getOperation, TaskDto.BulkResult::getIndex, TaskDto.BulkResult::getStatus)
+                .containsExactly(
+                        tuple(TaskDto.BulkOperation.UPDATE, 0, 200),
+                        tuple(TaskDto.BulkOperation.UPDATE, 1, 403),
+                        tuple(TaskDto.BulkOperation.DELETE, 0, 204),
+                        tuple(TaskDto.BulkOperation.DELETE, 1, 404),
+                        tuple(TaskDto.BulkOperation.CREATE, 0, 201),
+                        tuple(TaskDto.BulkOperation.CREATE, 1, 403));
+        assertThat(response.getResults().get(4).getId()).isEqualTo(100L);
+        assertThat(ownTask.getTitle()).isEqualTo("Renamed");
+        assertThat(foreignTask.getTitle()).isEqualTo("Task 20");
+
+        verify(taskRepository).deleteAll(argThat(tasks -> ((Collection<Task>) tasks).size() == 1 && tasks.iterator().next() == ownTask));
+        verify(taskRepository).saveAll(argThat(tasks -> ((List<Task>) tasks).size() == 1));
+        verify(taskRepository, never()).findById(any());
+        verify(projectRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(ChangeEvent.tasksChanged(1L, 1L));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should reject updates made against an older version")
+    void apply_WithStaleVersion_ShouldReportPreconditionFailed() {
+        ownTask.setVersion(3L);
+        when(taskRepository.findByIdIn(Set.of(10L))).thenReturn(List.of(ownTask));
+
+        TaskDto.BulkUpdate stale = update(10L, "Stale");
+        stale.setVersion(2L);
+        TaskDto.BulkRequest request = new TaskDto.BulkRequest();
+        request.setUpdate(List.of(stale));
+
+        TaskDto.BulkResponse response = taskBulkService.apply(request, 1L);
+
+        assertThat(response.getResults()).extracting(TaskDto.BulkResult::getStatus).containsExactly(412);
+        assertThat(ownTask.getTitle()).isEqualTo("Task 10");
+    }
+
+    @Test
+    @DisplayName("Should reject empty and oversized bulk requests")
+    void apply_WithInvalidSize_ShouldThrowBadRequest() {
+        TaskDto.BulkRequest empty = new TaskDto.BulkRequest();
+        TaskDto.BulkRequest oversized = new TaskDto.BulkRequest();
+        oversized.setDelete(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L));
+
+        assertThatThrownBy(() -> taskBulkService.apply(empty, 1L))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> taskBulkService.apply(oversized, 1L))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(taskRepository, projectRepository);
+    }
+
+    private static Task task(Long id, Project project) {
+        return Task.builder()
+                .id(id)
+                .title("Task " + id)
+                .status(TaskStatus.TODO)
+                .priority(Priority.MEDIUM)
+                .project(project)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static TaskDto.Request create(Long projectId) {
+        TaskDto.Request request = new TaskDto.Request();
+        request.setTitle("New task");
+        request.setProjectId(projectId);
+        return request;
+    }
+
+    private static TaskDto.BulkUpdate update(Long id, String title) {
+        TaskDto.BulkUpdate update = new TaskDto.BulkUpdate();
+        update.setId(id);
+        update.setTitle(title);
+        update.setStatus(TaskStatus.IN_PROGRESS);
+        update.setPriority(Priority.HIGH);
+        return update;
+    }
+}
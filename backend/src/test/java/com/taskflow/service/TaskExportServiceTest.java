@@ -0,0 +1,92 @@
+package com.taskflow.service;
+
+import com.taskflow.entity.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({TaskExportService.class, TaskService.class, JacksonAutoConfiguration.class})
+@DisplayName("TaskExportService")
+class TaskExportServiceTest {
+
+    private static final int TASKS = 1_200;
+
+    @Autowired private TaskExportService taskExportService;
+    @Autowired private EntityManager entityManager;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        User owner = User.builder()
+                .name("Owner")
+                .email("owner@test.com")
+                .password("encoded_password")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(owner);
+        project = Project.builder().name("Export").owner(owner).build();
+        entityManager.persist(project);
+        for (int i = 0; i < TASKS; i++) {
+            entityManager.persist(Task.builder()
+                    .title(i == 0 ? "=HYPERLINK(\"x\")" : "Task " + i)
+                    .description(i == 0 ? "line one\nline two, with comma" : null)
+                    .status(TaskStatus.TODO)
+                    .priority(Priority.LOW)
+                    .project(project)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("streams one JSON object per line and keeps no tasks in the persistence context")
+    void export_Ndjson_ShouldStreamAndDetach() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskExportService.export(project.getId(), TaskFileFormat.NDJSON, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(TASKS).allSatisfy(line -> assertThat(line).startsWith("{\"id\":"));
+        assertThat(managedTasks()).isZero();
+    }
+
+    @Test
+    @DisplayName("writes RFC 4180 CSV and neutralizes formulas")
+    void export_Csv_ShouldQuoteAndEscape() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskExportService.export(project.getId(), TaskFileFormat.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("id,title,description,status,priority,dueDate,projectId,createdAt\r\n");
+        assertThat(csv).contains(",\"'=HYPERLINK(\"\"x\"\")\",\"line one\nline two, with comma\",TODO,LOW,,");
+        assertThat(csv.split("\r\n")).hasSize(TASKS + 1);
+        assertThat(managedTasks()).isZero();
+    }
+
+    private long managedTasks() {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityKeys().stream()
+                .filter(key -> ((EntityKey) key).getEntityName().equals(Task.class.getName()))
+                .count();
+    }
+}
@@ -0,0 +1,175 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Exercises the COPY path of {@link TaskImportService} against PostgreSQL and prints its
+ * throughput. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "tasks.import.max-reported-errors=10"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TaskImportService.class)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@DisplayName("TaskImportService (PostgreSQL COPY)")
+class TaskImportCopyTest {
+
+    private static final int ROWS = 200_000;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired private TaskImportService taskImportService;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        Long ownerId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (name, email, password) VALUES ('Owner', 'copy@test.com', 'x') RETURNING id",
+                Long.class);
+        projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (name, owner_id) VALUES ('Copy', ?) RETURNING id", Long.class, ownerId);
+    }
+
+    @Test
+    @DisplayName("loads rows through COPY, keeping quotes, newlines and nulls intact")
+    void importTasks_ShouldCopyRows() throws Exception {
+        String csv = """
+                title,description,status,priority,dueDate
+                "Say ""hi""\","first line
+                second, line",IN_PROGRESS,HIGH,2030-03-01
+                No description,,TODO,LOW,
+                ,missing title,TODO,LOW,
+                """;
+
+        TaskDto.ImportResult result = taskImportService.importTasks(projectId, TaskFileFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), TaskImportService.ImportListener.NONE);
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT coalesce(description, '<null>') FROM tasks WHERE project_id = ? ORDER BY title", String.class, projectId))
+                .containsExactly("<null>", "first line\nsecond, line");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT title FROM tasks WHERE status = 'IN_PROGRESS' AND project_id = ?", String.class, projectId))
+                .isEqualTo("Say \"hi\"");
+    }
+
+    @Test
+    @DisplayName("takes task ids from the sequence a block at a time, like Hibernate's pooled optimizer")
+    void importTasks_ShouldAllocateIdsPerBlock() throws Exception {
+        int rows = Task.ID_ALLOCATION_SIZE * 2 + 20;
+        StringBuilder csv = new StringBuilder("title,status,priority\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("Task ").append(i).append(",TODO,LOW\n");
+        }
+        long before = nextTaskId();
+
+        taskImportService.importTasks(projectId, TaskFileFormat.CSV,
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)),
+                TaskImportService.ImportListener.NONE);
+
+        assertThat(nextTaskId()).isEqualTo(before + 4L * Task.ID_ALLOCATION_SIZE);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM tasks WHERE project_id = ? ORDER BY id", Long.class, projectId))
+                .containsExactlyElementsOf(LongStream.rangeClosed(before + 1, before + rows).boxed().toList());
+    }
+
+    private long nextTaskId() {
+        return jdbcTemplate.queryForObject("SELECT nextval('tasks_id_seq')", Long.class);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("evicts the cached task collection of the project once the import commits")
+    void importTasks_ShouldEvictCachedProjectTasks() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            assertThat(cachedTaskCount(transaction)).isZero();
+
+            String csv = "title,status,priority\nFirst,TODO,LOW\nSecond,DONE,HIGH\n";
+            transaction.execute(status -> {
+                try {
+                    return taskImportService.importTasks(projectId, TaskFileFormat.CSV,
+                            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                            TaskImportService.ImportListener.NONE);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+
+            assertThat(cachedTaskCount(transaction)).isEqualTo(2);
+        } finally {
+            jdbcTemplate.update("DELETE FROM users WHERE email = 'copy@test.com'");
+        }
+    }
+
+    private int cachedTaskCount(TransactionTemplate transaction) {
+        return transaction.execute(status -> entityManager.find(Project.class, projectId).getTasks().size());
+    }
+
+    @Test
+    @DisplayName("throughput: 200,000 CSV rows through COPY")
+    void importTasks_Throughput() throws Exception {
+        StringBuilder csv = new StringBuilder("title,description,status,priority,dueDate\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append("Task ").append(i).append(",Imported row ").append(i).append(",TODO,MEDIUM,2030-01-01\n");
+        }
+
+        TaskDto.ImportResult result = taskImportService.importTasks(projectId, TaskFileFormat.CSV,
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)),
+                TaskImportService.ImportListener.NONE);
+
+        System.out.printf("COPY import: %d rows in %d ms (%d rows/s)%n",
+                result.getImported(), result.getElapsedMillis(), result.getRowsPerSecond());
+        assertThat(result.getImported()).isEqualTo(ROWS);
+        assertThat(taskRepository.countByProjectId(projectId)).isEqualTo(ROWS);
+    }
+}
@@ -0,0 +1,144 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.*;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(TaskImportService.class)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@DisplayName("TaskImportService (JPA fallback)")
+class TaskImportServiceTest {
+
+    @Autowired private TaskImportService taskImportService;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private EntityManager entityManager;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        User owner = User.builder()
+                .name("Owner")
+                .email("owner@test.com")
+                .password("encoded_password")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(owner);
+        project = Project.builder().name("Import").owner(owner).build();
+        entityManager.persist(project);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("imports valid CSV rows, reports invalid ones and ignores export-only columns")
+    void importTasks_Csv_ShouldImportValidRowsAndReportErrors() throws Exception {
+        String csv = """
+                id,title,description,status,priority,dueDate,projectId,createdAt
+                7,Write docs,"multi-line
+                description, with comma",TODO,HIGH,2030-01-15,99,2024-01-01T10:00:00
+                8,,,TODO,LOW,,,
+                9,Ship it,,SHIPPED,LOW,,,
+                10,Review,,DONE,MEDIUM,,,
+                """;
+        List<TaskDto.ImportError> reported = new ArrayList<>();
+
+        TaskDto.ImportResult result = taskImportService.importTasks(project.getId(), TaskFileFormat.CSV,
+                stream(csv), new TaskImportService.ImportListener() {
+                    @Override
+                    public void onRejected(TaskDto.ImportError error) {
+                        reported.add(error);
+                    }
+                });
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getErrors()).isEqualTo(reported)
+                .extracting(TaskDto.ImportError::getRow)
+                .containsExactly(2L, 3L);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("Title is required");
+        assertThat(result.getErrors().get(1).getMessage()).isEqualTo("Invalid value for status");
+
+        List<Task> tasks = taskRepository.findAll();
+        assertThat(tasks).extracting(Task::getTitle).containsExactlyInAnyOrder("Write docs", "Review");
+        assertThat(tasks).allSatisfy(task -> assertThat(task.getProject().getId()).isEqualTo(project.getId()));
+        assertThat(tasks).filteredOn(task -> task.getTitle().equals("Write docs")).singleElement()
+                .satisfies(task -> {
+                    assertThat(task.getDescription()).isEqualTo("multi-line\ndescription, with comma");
+                    assertThat(task.getDueDate()).isEqualTo(LocalDate.of(2030, 1, 15));
+                });
+    }
+
+    @Test
+    @DisplayName("imports NDJSON with request defaults for missing fields")
+    void importTasks_Ndjson_ShouldApplyDefaults() throws Exception {
+        String ndjson = """
+                {"title":"First"}
+                {"title":"Second","status":"DONE","priority":"HIGH","dueDate":"2030-02-01"}
+                {"title":"x"}
+                """;
+
+        TaskDto.ImportResult result = taskImportService.importTasks(project.getId(), TaskFileFormat.NDJSON,
+                stream(ndjson), TaskImportService.ImportListener.NONE);
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).contains("between 2 and 200"));
+        assertThat(taskRepository.findAll()).extracting(Task::getStatus)
+                .containsExactlyInAnyOrder(TaskStatus.TODO, TaskStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("rejects input that is not well-formed")
+    void importTasks_WithMalformedInput_ShouldThrowBadRequest() {
+        assertThatThrownBy(() -> taskImportService.importTasks(project.getId(), TaskFileFormat.NDJSON,
+                stream("{\"title\":\"ok\"}\n{\"title\": oops}\n"), TaskImportService.ImportListener.NONE))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("row 2");
+    }
+
+    @Test
+    @DisplayName("throughput: 20,000 CSV rows through the batched JPA fallback")
+    void importTasks_Throughput() throws Exception {
+        StringBuilder csv = new StringBuilder("title,description,status,priority,dueDate\n");
+        for (int i = 0; i < 20_000; i++) {
+            csv.append("Task ").append(i).append(",Imported row ").append(i).append(",TODO,MEDIUM,2030-01-01\n");
+        }
+
+        TaskDto.ImportResult result = taskImportService.importTasks(project.getId(), TaskFileFormat.CSV,
+                stream(csv.toString()), TaskImportService.ImportListener.NONE);
+
+        System.out.printf("JPA fallback import: %d rows in %d ms (%d rows/s)%n",
+                result.getImported(), result.getElapsedMillis(), result.getRowsPerSecond());
+        assertThat(result.getImported()).isEqualTo(20_000);
+        assertThat(taskRepository.countByProjectId(project.getId())).isEqualTo(20_000);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.*;
+import com.taskflow.exception.UnauthorizedException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(TaskService.class)
+@DisplayName("TaskService statement counts")
+class TaskServiceQueryCountTest {
+
+    @Autowired private TaskService taskService;
+    @Autowired private EntityManager entityManager;
+
+    private Long ownerId;
+    private Long strangerId;
+    private Long taskId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User owner = user("owner@test.com");
+        User stranger = user("stranger@test.com");
+        Project project = Project.builder().name("Writes").owner(owner).build();
+        entityManager.persist(project);
+        Task task = Task.builder()
+                .title("Task")
+                .status(TaskStatus.TODO)
+                .priority(Priority.MEDIUM)
+                .project(project)
+                .build();
+        entityManager.persist(task);
+        entityManager.flush();
+        entityManager.clear();
+        ownerId = owner.getId();
+        strangerId = stranger.getId();
+        taskId = task.getId();
+
+        SessionFactory sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("delete checks ownership with one query and removes the loaded task")
+    void delete_ShouldRemoveLoadedTask() {
+        taskService.delete(taskId, ownerId, null);
+        entityManager.flush();
+
+        // owner check, task select (served from the second-level cache once warm), delete
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+        assertThat(entityManager.find(Task.class, taskId)).isNull();
+    }
+
+    @Test
+    @DisplayName("delete by another user deletes nothing and is rejected")
+    void delete_WhenNotOwner_ShouldBeRejected() {
+        assertThatThrownBy(() -> taskService.delete(taskId, strangerId, null))
+                .isInstanceOf(UnauthorizedException.class);
+
+        assertThat(entityManager.find(Task.class, taskId)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("update checks ownership with one query and loads the task without its project or owner")
+    void update_ShouldNotLoadProjectOrOwner() {
+        TaskDto.UpdateRequest request = new TaskDto.UpdateRequest();
+        request.setTitle("Renamed");
+        request.setStatus(TaskStatus.DONE);
+        request.setPriority(Priority.HIGH);
+
+        taskService.update(taskId, request, ownerId, null);
+        entityManager.flush();
+
+        // owner check, task select (served from the second-level cache once warm), update
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    private User user(String email) {
+        User user = User.builder()
+                .name("User")
+                .email(email)
+                .password("encoded_password")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
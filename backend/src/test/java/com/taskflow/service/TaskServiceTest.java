@@ -2,10 +2,13 @@ package com.taskflow.service;
 
 import com.taskflow.dto.TaskDto;
 import com.taskflow.entity.*;
+import com.taskflow.exception.BadRequestException;
 import com.taskflow.exception.ResourceNotFoundException;
 import com.taskflow.exception.UnauthorizedException;
 import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskKeyset;
 import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskSort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -20,7 +25,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +38,9 @@ class TaskServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -72,38 +80,170 @@ class TaskServiceTest {
     }
 
     @Test
-    @DisplayName("Should return tasks by project ID")
+    @DisplayName("Should return first page of tasks by project ID")
     void findByProject_ShouldReturnTasks() {
-        when(taskRepository.findByProjectIdOrderByCreatedAtDesc(1L)).thenReturn(List.of(task));
+        when(taskRepository.findSlice(any(), eq(TaskSort.DEFAULT), isNull(), eq(TaskService.DEFAULT_PAGE_SIZE + 1)))
+                .thenReturn(List.of(task));
+
+        TaskDto.Page result = taskService.findByProject(1L, new TaskDto.Filter());
+
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems().get(0).getTitle()).isEqualTo("Test Task");
+        assertThat(result.getItems().get(0).getStatus()).isEqualTo("TODO");
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should combine filters into a single query")
+    void findByProject_WithFilters_ShouldIssueSingleQuery() {
+        TaskDto.Filter filter = new TaskDto.Filter();
+        filter.setStatus(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS));
+        filter.setPriority(List.of(Priority.MEDIUM));
+        filter.setDueTo(LocalDate.now().plusDays(30));
+        filter.setQ("test");
+        when(taskRepository.findSlice(any(), any(), any(), anyInt())).thenReturn(List.of(task));
+
+        TaskDto.Page result = taskService.findByProject(1L, filter);
+
+        assertThat(result.getItems()).hasSize(1);
+        verify(taskRepository, times(1)).findSlice(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should parse the requested sort order")
+    void findByProject_WithSort_ShouldPassSortToRepository() {
+        TaskDto.Filter filter = new TaskDto.Filter();
+        filter.setSort("dueDate,desc");
+        when(taskRepository.findSlice(any(), any(), any(), anyInt())).thenReturn(List.of(task));
 
-        List<TaskDto.Response> result = taskService.findByProject(1L, null, null);
+        taskService.findByProject(1L, filter);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getTitle()).isEqualTo("Test Task");
-        assertThat(result.get(0).getStatus()).isEqualTo("TODO");
-        verify(taskRepository).findByProjectIdOrderByCreatedAtDesc(1L);
+        verify(taskRepository).findSlice(any(),
+                eq(new TaskSort(TaskSort.Key.DUE_DATE, Sort.Direction.DESC)), isNull(), anyInt());
     }
 
     @Test
-    @DisplayName("Should filter tasks by status")
-    void findByProject_WithStatusFilter_ShouldReturnFilteredTasks() {
-        when(taskRepository.findByProjectIdAndStatus(1L, TaskStatus.TODO)).thenReturn(List.of(task));
+    @DisplayName("Should reject an unsupported sort property")
+    void findByProject_WithUnknownSort_ShouldThrowBadRequest() {
+        TaskDto.Filter filter = new TaskDto.Filter();
+        filter.setSort("password,asc");
 
-        List<TaskDto.Response> result = taskService.findByProject(1L, TaskStatus.TODO, null);
+        assertThatThrownBy(() -> taskService.findByProject(1L, filter))
+                .isInstanceOf(BadRequestException.class);
+    }
 
-        assertThat(result).hasSize(1);
-        verify(taskRepository).findByProjectIdAndStatus(1L, TaskStatus.TODO);
+    @Test
+    @DisplayName("Should return a cursor that resumes after the last task of the page")
+    void findByProject_WhenMorePages_ShouldReturnNextCursor() {
+        Task next = Task.builder()
+                .id(2L)
+                .title("Older Task")
+                .status(TaskStatus.TODO)
+                .priority(Priority.LOW)
+                .project(project)
+                .createdAt(task.getCreatedAt().minusHours(1))
+                .build();
+        TaskDto.Filter filter = new TaskDto.Filter();
+        filter.setSize(1);
+        when(taskRepository.findSlice(any(), eq(TaskSort.DEFAULT), isNull(), eq(2))).thenReturn(List.of(task, next));
+
+        TaskDto.Page first = taskService.findByProject(1L, filter);
+
+        assertThat(first.getItems()).hasSize(1);
+        assertThat(first.getNextCursor()).isNotNull();
+
+        filter.setCursor(first.getNextCursor());
+        when(taskRepository.findSlice(any(), eq(TaskSort.DEFAULT), eq(new TaskKeyset(task.getCreatedAt(), 1L)), eq(2)))
+                .thenReturn(List.of(next));
+
+        TaskDto.Page second = taskService.findByProject(1L, filter);
+
+        assertThat(second.getItems()).extracting(TaskDto.Response::getId).containsExactly(2L);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor issued for another sort order")
+    void findByProject_WithCursorFromOtherSort_ShouldThrowBadRequest() {
+        TaskDto.Filter filter = new TaskDto.Filter();
+        filter.setSize(1);
+        when(taskRepository.findSlice(any(), any(), any(), anyInt())).thenReturn(List.of(task, task));
+        String cursor = taskService.findByProject(1L, filter).getNextCursor();
+
+        filter.setCursor(cursor);
+        filter.setSort("title,asc");
+
+        assertThatThrownBy(() -> taskService.findByProject(1L, filter))
+                .isInstanceOf(BadRequestException.class);
     }
 
     @Test
-    @DisplayName("Should filter tasks by priority")
-    void findByProject_WithPriorityFilter_ShouldReturnFilteredTasks() {
-        when(taskRepository.findByProjectIdAndPriority(1L, Priority.MEDIUM)).thenReturn(List.of(task));
+    @DisplayName("Should cap the page size")
+    void findByProject_WhenSizeTooLarge_ShouldCapPageSize() {
+        TaskDto.Filter filter = new TaskDto.Filter();
+        filter.setSize(10_000);
+        when(taskRepository.findSlice(any(), any(), any(), eq(TaskService.MAX_PAGE_SIZE + 1))).thenReturn(List.of(task));
 
-        List<TaskDto.Response> result = taskService.findByProject(1L, null, Priority.MEDIUM);
+        TaskDto.Page result = taskService.findByProject(1L, filter);
 
-        assertThat(result).hasSize(1);
-        verify(taskRepository).findByProjectIdAndPriority(1L, Priority.MEDIUM);
+        assertThat(result.getItems()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void findByProject_WithInvalidCursor_ShouldThrowBadRequest() {
+        TaskDto.Filter filter = new TaskDto.Filter();
+        filter.setCursor("not-a-cursor");
+
+        assertThatThrownBy(() -> taskService.findByProject(1L, filter))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should search the caller's tasks and escape highlights")
+    void search_ShouldEscapeAndMarkHighlights() {
+        TaskRepository.SearchHit hit = mock(TaskRepository.SearchHit.class);
+        when(hit.getId()).thenReturn(1L);
+        when(hit.getTitleHighlight()).thenReturn("Fix \u0002login\u0003 <b>now</b>");
+        when(hit.getSnippet()).thenReturn("the \u0002login\u0003 & signup forms");
+        when(taskRepository.search(1L, "login", TaskService.DEFAULT_SEARCH_SIZE + 1, 0L))
+                .thenReturn(List.of(hit));
+
+        TaskDto.SearchPage result = taskService.search(" login ", null, null, 1L);
+
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.getItems()).singleElement().satisfies(item -> {
+            assertThat(item.getId()).isEqualTo(1L);
+            assertThat(item.getTitleHighlight()).isEqualTo("Fix <mark>login</mark> &lt;b&gt;now&lt;/b&gt;");
+            assertThat(item.getSnippet()).isEqualTo("the <mark>login</mark> &amp; signup forms");
+        });
+    }
+
+    @Test
+    @DisplayName("Should page search results by offset and report more results")
+    void search_WhenMoreResults_ShouldReportHasMore() {
+        List<TaskRepository.SearchHit> hits = List.of(
+                mock(TaskRepository.SearchHit.class),
+                mock(TaskRepository.SearchHit.class),
+                mock(TaskRepository.SearchHit.class));
+        when(taskRepository.search(1L, "login", 3, 4L)).thenReturn(hits);
+
+        TaskDto.SearchPage result = taskService.search("login", 2, 2, 1L);
+
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getPage()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject blank searches and paging past the result limit")
+    void search_WithInvalidParameters_ShouldThrowBadRequest() {
+        assertThatThrownBy(() -> taskService.search(" ", null, null, 1L))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> taskService.search("login", 100, 50, 1L))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(taskRepository, never()).search(any(), any(), anyInt(), anyLong());
     }
 
     @Test
@@ -116,10 +256,11 @@ class TaskServiceTest {
         request.setPriority(Priority.HIGH);
         request.setProjectId(1L);
 
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectRepository.findOwnerIdById(1L)).thenReturn(Optional.of(1L));
+        when(projectRepository.getReferenceById(1L)).thenReturn(project);
         when(taskRepository.save(any(Task.class))).thenReturn(task);
 
-        TaskDto.Response result = taskService.create(request, "user@test.com");
+        TaskDto.Response result = taskService.create(request, 1L);
 
         assertThat(result).isNotNull();
         assertThat(result.getTitle()).isEqualTo("Test Task");
@@ -135,9 +276,9 @@ class TaskServiceTest {
         request.setPriority(Priority.MEDIUM);
         request.setTitle("Task");
 
-        when(projectRepository.findById(99L)).thenReturn(Optional.empty());
+        when(projectRepository.findOwnerIdById(99L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> taskService.create(request, "user@test.com"))
+        assertThatThrownBy(() -> taskService.create(request, 1L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("99");
     }
@@ -151,31 +292,55 @@ class TaskServiceTest {
         request.setPriority(Priority.MEDIUM);
         request.setTitle("Task");
 
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectRepository.findOwnerIdById(1L)).thenReturn(Optional.of(1L));
 
-        assertThatThrownBy(() -> taskService.create(request, "other@test.com"))
+        assertThatThrownBy(() -> taskService.create(request, 2L))
                 .isInstanceOf(UnauthorizedException.class);
+        verify(taskRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("Should delete task successfully")
+    @DisplayName("Should delete task by removing the loaded entity")
     void delete_ShouldDeleteTask() {
+        when(taskRepository.findOwnerIdById(1L)).thenReturn(Optional.of(1L));
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
 
-        taskService.delete(1L, "user@test.com");
+        taskService.delete(1L, 1L, null);
 
-        verify(taskRepository).deleteById(1L);
+        verify(taskRepository).delete(task);
+        verify(eventPublisher).publishEvent(ChangeEvent.taskDeleted(1L, 1L));
     }
 
     @Test
     @DisplayName("Should throw exception when deleting task with wrong user")
     void delete_WhenNotOwner_ShouldThrowUnauthorized() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findOwnerIdById(1L)).thenReturn(Optional.of(1L));
 
-        assertThatThrownBy(() -> taskService.delete(1L, "hacker@test.com"))
+        assertThatThrownBy(() -> taskService.delete(1L, 2L, null))
                 .isInstanceOf(UnauthorizedException.class);
+        verify(taskRepository, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when deleting a missing task")
+    void delete_WhenNotFound_ShouldThrowNotFound() {
+        when(taskRepository.findOwnerIdById(99L)).thenReturn(Optional.empty());
 
-        verify(taskRepository, never()).deleteById(any());
+        assertThatThrownBy(() -> taskService.delete(99L, 1L, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject an update by another user before loading the task")
+    void update_WhenNotOwner_ShouldThrowUnauthorized() {
+        TaskDto.UpdateRequest request = new TaskDto.UpdateRequest();
+        request.setTitle("Hijacked");
+        when(taskRepository.findOwnerIdById(1L)).thenReturn(Optional.of(1L));
+
+        assertThatThrownBy(() -> taskService.update(1L, request, 2L, null))
+                .isInstanceOf(UnauthorizedException.class);
+        verify(taskRepository, never()).findById(any());
     }
 
     @Test
@@ -0,0 +1,192 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.Task;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Delta sync against PostgreSQL with the Flyway schema, including its triggers. Changes only become
+ * visible to sync once committed, so nothing here runs in a test transaction. Skipped when Docker
+ * is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskSyncService.class, TaskService.class})
+@DisplayName("TaskSyncService (PostgreSQL)")
+class TaskSyncTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired private TaskSyncService taskSyncService;
+    @Autowired private TaskService taskService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private DataSource dataSource;
+
+    private Long ownerId;
+    private Long projectId;
+    private Long first;
+    private Long second;
+    private Long third;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (name, email, password) VALUES ('Owner', 'sync@test.com', 'x') RETURNING id",
+                Long.class);
+        projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (name, owner_id) VALUES ('Sync', ?) RETURNING id", Long.class, ownerId);
+        first = task("First");
+        second = task("Second");
+        third = task("Third");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", ownerId);
+        jdbcTemplate.update("DELETE FROM task_tombstones");
+    }
+
+    @Test
+    @DisplayName("a first sync returns every task and an idle sync returns nothing")
+    void changes_ShouldReturnEverythingThenNothing() {
+        TaskDto.Changes initial = taskSyncService.changes(projectId, null, null, ownerId);
+        TaskDto.Changes idle = taskSyncService.changes(projectId, initial.getNext(), null, ownerId);
+
+        assertThat(initial.getChanged()).extracting(TaskDto.Response::getId).containsExactly(first, second, third);
+        assertThat(initial.isHasMore()).isFalse();
+        assertThat(idle.getChanged()).isEmpty();
+        assertThat(idle.getDeleted()).isEmpty();
+        assertThat(SyncToken.decode(idle.getNext()).id()).isEqualTo(SyncToken.decode(initial.getNext()).id());
+    }
+
+    @Test
+    @DisplayName("returns updated and created tasks and tombstones of deleted ones")
+    void changes_ShouldReturnWritesSincePosition() {
+        String since = taskSyncService.changes(projectId, null, null, ownerId).getNext();
+
+        jdbcTemplate.update("UPDATE tasks SET title = 'Renamed' WHERE id = ?", first);
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", second);
+        Long fourth = task("Fourth");
+
+        TaskDto.Changes changes = taskSyncService.changes(projectId, since, null, ownerId);
+
+        assertThat(changes.getChanged()).extracting(TaskDto.Response::getId).containsExactly(first, fourth);
+        assertThat(changes.getChanged().get(0).getTitle()).isEqualTo("Renamed");
+        assertThat(changes.getDeleted()).containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("pages through changes in order")
+    void changes_ShouldPage() {
+        TaskDto.Changes page = taskSyncService.changes(projectId, null, 2, ownerId);
+        TaskDto.Changes rest = taskSyncService.changes(projectId, page.getNext(), 2, ownerId);
+
+        assertThat(page.getChanged()).extracting(TaskDto.Response::getId).containsExactly(first, second);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(rest.getChanged()).extracting(TaskDto.Response::getId).containsExactly(third);
+        assertThat(rest.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("holds back later commits until an earlier transaction finishes, so none is skipped")
+    void changes_ShouldNotSkipSlowTransactions() throws Exception {
+        String since = taskSyncService.changes(projectId, null, null, ownerId).getNext();
+
+        try (Connection slow = dataSource.getConnection(); Statement statement = slow.createStatement()) {
+            slow.setAutoCommit(false);
+            statement.executeUpdate("UPDATE tasks SET title = 'Slow' WHERE id = " + first);
+            jdbcTemplate.update("UPDATE tasks SET title = 'Fast' WHERE id = ?", second);
+
+            TaskDto.Changes whileRunning = taskSyncService.changes(projectId, since, null, ownerId);
+            assertThat(whileRunning.getChanged()).isEmpty();
+            since = whileRunning.getNext();
+
+            slow.commit();
+        }
+
+        TaskDto.Changes afterCommit = taskSyncService.changes(projectId, since, null, ownerId);
+        assertThat(afterCommit.getChanged()).extracting(TaskDto.Response::getTitle).containsExactly("Slow", "Fast");
+    }
+
+    @Test
+    @DisplayName("deleting a project leaves tombstones for its tasks")
+    void projectDelete_ShouldRecordTombstones() {
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT task_id FROM task_tombstones WHERE project_id = ? ORDER BY task_id", Long.class, projectId))
+                .containsExactly(first, second, third);
+    }
+
+    @Test
+    @DisplayName("asks clients to resync once their position is older than the tombstone retention")
+    void changes_WithExpiredToken_ShouldRequestResync() {
+        String expired = new SyncToken(0, 0, Instant.now().minus(Duration.ofDays(30))).encode();
+
+        TaskDto.Changes changes = taskSyncService.changes(projectId, expired, null, ownerId);
+
+        assertThat(changes.isResync()).isTrue();
+        assertThat(changes.getChanged()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("purges tombstones past the retention only")
+    void purgeTombstones_ShouldRemoveExpiredOnly() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE id IN (?, ?)", first, second);
+        jdbcTemplate.update("UPDATE task_tombstones SET deleted_at = now() - interval '30 days' WHERE task_id = ?", first);
+
+        taskService.findById(third);
+
+        taskSyncService.purgeTombstones();
+
+        assertThat(jdbcTemplate.queryForList("SELECT task_id FROM task_tombstones", Long.class))
+                .containsExactly(second);
+        assertThat(entityManagerFactory.unwrap(SessionFactory.class).getCache().containsEntity(Task.class, third))
+                .as("cached tasks survive the purge").isTrue();
+    }
+
+    private Long task(String title) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO tasks (title, status, priority, project_id) VALUES (?, 'TODO', 'LOW', ?) RETURNING id",
+                Long.class, title, projectId);
+    }
+}
@@ -0,0 +1,117 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.UserDto;
+import com.taskflow.entity.Role;
+import com.taskflow.entity.User;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.security.PrincipalCache;
+import com.taskflow.security.TokenRevocations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserService Unit Tests")
+class UserServiceTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private PrincipalCache principalCache;
+    @Mock private TokenRevocations tokenRevocations;
+
+    @InjectMocks
+    private UserService userService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(1L)
+                .name("John Doe")
+                .email("john@test.com")
+                .password("encoded_password")
+                .role(Role.USER)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should evict cached principal under the previous email on update")
+    void update_ShouldInvalidatePreviousEmail() {
+        UserDto.UpdateRequest request = new UserDto.UpdateRequest();
+        request.setName("John Doe");
+        request.setEmail("new@test.com");
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.existsByEmail("new@test.com")).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserDto.Response response = userService.update(1L, request);
+
+        assertThat(response.getEmail()).isEqualTo("new@test.com");
+        verify(principalCache).invalidate("john@test.com");
+        verify(tokenRevocations).revokeUser(1L, 1);
+        assertThat(user.getTokenVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should revoke the user's access tokens when the role changes")
+    void updateRole_ShouldRevokeTokens() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserDto.Response response = userService.updateRole(1L, Role.ADMIN);
+
+        assertThat(response.getRole()).isEqualTo("ADMIN");
+        verify(tokenRevocations).revokeUser(1L, 1);
+        verify(principalCache).invalidate("john@test.com");
+    }
+
+    @Test
+    @DisplayName("Should keep tokens when the role is unchanged")
+    void updateRole_WhenUnchanged_ShouldKeepTokens() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        userService.updateRole(1L, Role.USER);
+
+        verifyNoInteractions(tokenRevocations);
+        assertThat(user.getTokenVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict cached principal on delete")
+    void delete_ShouldInvalidatePrincipal() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        userService.delete(1L);
+
+        verify(userRepository).delete(user);
+        verify(principalCache).invalidate("john@test.com");
+        verify(tokenRevocations).revokeUser(1L, Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when deleting unknown user")
+    void delete_WhenNotFound_ShouldThrowException() {
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userService.delete(99L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("99");
+
+        verifyNoInteractions(principalCache);
+    }
+}
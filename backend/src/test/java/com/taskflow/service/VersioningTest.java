@@ -0,0 +1,167 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.ProjectDto;
+import com.taskflow.dto.TaskDto;
+import com.taskflow.entity.*;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.exception.PreconditionFailedException;
+import com.taskflow.security.PrincipalCache;
+import com.taskflow.security.TokenRevocations;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({TaskService.class, ProjectService.class, UserService.class})
+@DisplayName("Row versions and ETags")
+class VersioningTest {
+
+    @Autowired private TaskService taskService;
+    @Autowired private ProjectService projectService;
+    @Autowired private EntityManager entityManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @MockBean private PrincipalCache principalCache;
+    @MockBean private TokenRevocations tokenRevocations;
+
+    private Long ownerId;
+    private Long projectId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        User owner = User.builder()
+                .name("Owner")
+                .email("versioned@test.com")
+                .password("encoded_password")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(owner);
+        Project project = Project.builder().name("Versioned").owner(owner).build();
+        entityManager.persist(project);
+        Task task = Task.builder()
+                .title("Task")
+                .status(TaskStatus.TODO)
+                .priority(Priority.MEDIUM)
+                .project(project)
+                .build();
+        entityManager.persist(task);
+        entityManager.flush();
+        entityManager.clear();
+        ownerId = owner.getId();
+        projectId = project.getId();
+        taskId = task.getId();
+    }
+
+    @Test
+    @DisplayName("updates increment the version returned to the client")
+    void update_ShouldIncrementVersion() {
+        TaskDto.Response before = taskService.findById(taskId);
+
+        TaskDto.Response after = taskService.update(taskId, updateRequest("Renamed"), ownerId, before.getVersion());
+
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(ETags.of(after)).isNotEqualTo(ETags.of(before));
+        assertThat(after.getUpdatedAt()).isAfterOrEqualTo(before.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("writes against an older version are rejected without changes")
+    void writes_WithStaleVersion_ShouldFailPrecondition() {
+        Long current = taskService.findById(taskId).getVersion();
+        taskService.update(taskId, updateRequest("First"), ownerId, current);
+
+        assertThatThrownBy(() -> taskService.update(taskId, updateRequest("Second"), ownerId, current))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> taskService.delete(taskId, ownerId, current))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThat(taskService.findById(taskId).getTitle()).isEqualTo("First");
+    }
+
+    @Test
+    @DisplayName("a concurrent write after the version check still fails the update")
+    void update_WhenChangedConcurrently_ShouldFailOptimisticLock() {
+        Long current = entityManager.find(Task.class, taskId).getVersion();
+        jdbcTemplate.update("UPDATE tasks SET version = version + 1 WHERE id = ?", taskId);
+
+        assertThatThrownBy(() -> taskService.update(taskId, updateRequest("Lost"), ownerId, current))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @DisplayName("the task list ETag changes with every create, update and delete")
+    void listETag_ShouldChangeWithEveryWrite() {
+        TaskDto.Filter filter = new TaskDto.Filter();
+        String initial = taskService.listETag(projectId, filter);
+        assertThat(taskService.listETag(projectId, filter)).isEqualTo(initial);
+
+        taskService.update(taskId, updateRequest("Renamed"), ownerId, null);
+        String updated = taskService.listETag(projectId, filter);
+
+        TaskDto.Request create = new TaskDto.Request();
+        create.setTitle("Second");
+        create.setStatus(TaskStatus.TODO);
+        create.setPriority(Priority.LOW);
+        create.setProjectId(projectId);
+        taskService.create(create, ownerId);
+        String created = taskService.listETag(projectId, filter);
+
+        taskService.delete(taskId, ownerId, null);
+        String deleted = taskService.listETag(projectId, filter);
+
+        assertThat(List.of(initial, updated, created, deleted)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("the project list ETag follows project edits and task counts")
+    void ownerListETag_ShouldFollowProjectsAndTaskCounts() {
+        String initial = projectService.ownerListETag(ownerId);
+
+        ProjectDto.Request rename = new ProjectDto.Request();
+        rename.setName("Renamed");
+        ProjectDto.Response renamed = projectService.update(projectId, rename, ownerId, null);
+        String afterRename = projectService.ownerListETag(ownerId);
+
+        taskService.delete(taskId, ownerId, null);
+        String afterTaskDelete = projectService.ownerListETag(ownerId);
+
+        assertThat(renamed.getVersion()).isEqualTo(1L);
+        assertThat(List.of(initial, afterRename, afterTaskDelete)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("If-Match headers are read as the version at the start of the tag")
+    void requiredVersion_ShouldParseIfMatch() {
+        assertThat(ETags.requiredVersion(null)).isNull();
+        assertThat(ETags.requiredVersion("*")).isNull();
+        assertThat(ETags.requiredVersion("\"4\"")).isEqualTo(4L);
+        assertThat(ETags.requiredVersion("\"4.12.1a2b\"")).isEqualTo(4L);
+        assertThat(ETags.requiredVersion("W/\"4.12.1a2b\"")).isEqualTo(4L);
+        assertThatThrownBy(() -> ETags.requiredVersion("W/4"))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> ETags.requiredVersion("\"4\", \"5\""))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static TaskDto.UpdateRequest updateRequest(String title) {
+        TaskDto.UpdateRequest request = new TaskDto.UpdateRequest();
+        request.setTitle(title);
+        request.setStatus(TaskStatus.IN_PROGRESS);
+        request.setPriority(Priority.HIGH);
+        return request;
+    }
+}
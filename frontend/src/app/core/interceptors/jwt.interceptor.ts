@@ -1,34 +1,34 @@
 import { Injectable } from '@angular/core';
 import { HttpRequest, HttpHandler, HttpEvent, HttpInterceptor, HttpErrorResponse } from '@angular/common/http';
 import { Observable, throwError } from 'rxjs';
-import { catchError } from 'rxjs/operators';
-import { Router } from '@angular/router';
+import { catchError, switchMap } from 'rxjs/operators';
 import { AuthService } from '../services/auth.service';
 
 @Injectable()
 export class JwtInterceptor implements HttpInterceptor {
 
-  constructor(private authService: AuthService, private router: Router) {}
+  constructor(private authService: AuthService) {}
 
   intercept(request: HttpRequest<unknown>, next: HttpHandler): Observable<HttpEvent<unknown>> {
-    const token = this.authService.getToken();
-
-    if (token) {
-      request = request.clone({
-        setHeaders: {
-          Authorization: `Bearer ${token}`
-        }
-      });
-    }
-
-    return next.handle(request).pipe(
+    return next.handle(this.withToken(request)).pipe(
       catchError((error: HttpErrorResponse) => {
-        if (error.status === 401) {
-          this.authService.logout();
-          this.router.navigate(['/auth/login']);
+        // Access tokens are short-lived: on 401 renew once and retry, and log out if that fails too
+        if (error.status !== 401 || request.url.includes('/auth/')) {
+          return throwError(() => error);
         }
-        return throwError(() => error);
+        return this.authService.refresh().pipe(
+          catchError(() => {
+            this.authService.logout();
+            return throwError(() => error);
+          }),
+          switchMap(() => next.handle(this.withToken(request)))
+        );
       })
     );
   }
+
+  private withToken(request: HttpRequest<unknown>): HttpRequest<unknown> {
+    const token = this.authService.getToken();
+    return token ? request.clone({ setHeaders: { Authorization: `Bearer ${token}` } }) : request;
+  }
 }
@@ -11,6 +11,8 @@ export interface User {
 export interface AuthResponse {
   token: string;
   type: string;
+  expiresIn: number;
+  refreshToken: string;
   id: number;
   name: string;
   email: string;
@@ -35,6 +37,8 @@ export interface Project {
   description: string;
   owner: User;
   createdAt: string;
+  updatedAt: string;
+  version: number;
   taskCount: number;
 }
 
@@ -56,6 +60,33 @@ export interface Task {
   dueDate: string | null;
   projectId: number;
   createdAt: string;
+  updatedAt: string;
+  version: number;
+}
+
+export interface TaskPage {
+  items: Task[];
+  nextCursor: string | null;
+}
+
+export interface TaskSearchHit {
+  id: number;
+  projectId: number;
+  projectName: string;
+  title: string;
+  status: TaskStatus;
+  priority: Priority;
+  dueDate: string | null;
+  rank: number;
+  titleHighlight: string;
+  snippet: string;
+}
+
+export interface TaskSearchPage {
+  items: TaskSearchHit[];
+  page: number;
+  size: number;
+  hasMore: boolean;
 }
 
 export interface TaskRequest {
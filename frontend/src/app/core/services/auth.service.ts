@@ -1,6 +1,6 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { BehaviorSubject, Observable, tap } from 'rxjs';
+import { BehaviorSubject, Observable, finalize, shareReplay, tap, throwError } from 'rxjs';
 import { Router } from '@angular/router';
 import { environment } from '../../../environments/environment';
 import { AuthResponse, LoginRequest, RegisterRequest } from '../models/models';
@@ -8,12 +8,15 @@ import { AuthResponse, LoginRequest, RegisterRequest } from '../models/models';
 @Injectable({ providedIn: 'root' })
 export class AuthService {
   private readonly TOKEN_KEY = 'taskflow_token';
+  private readonly REFRESH_TOKEN_KEY = 'taskflow_refresh_token';
   private readonly USER_KEY = 'taskflow_user';
   private readonly apiUrl = `${environment.apiUrl}/auth`;
 
   private currentUserSubject = new BehaviorSubject<AuthResponse | null>(this.getStoredUser());
   currentUser$ = this.currentUserSubject.asObservable();
 
+  private refreshInFlight: Observable<AuthResponse> | null = null;
+
   constructor(private http: HttpClient, private router: Router) {}
 
   register(request: RegisterRequest): Observable<AuthResponse> {
@@ -28,8 +31,30 @@ export class AuthService {
     );
   }
 
+  // Renews the short-lived access token; concurrent callers share one request, since a refresh token
+  // works only once and presenting it twice ends the session.
+  refresh(): Observable<AuthResponse> {
+    const refreshToken = localStorage.getItem(this.REFRESH_TOKEN_KEY);
+    if (!refreshToken) {
+      return throwError(() => new Error('Not logged in'));
+    }
+    if (!this.refreshInFlight) {
+      this.refreshInFlight = this.http.post<AuthResponse>(`${this.apiUrl}/refresh`, { refreshToken }).pipe(
+        tap(response => this.handleAuthSuccess(response)),
+        finalize(() => this.refreshInFlight = null),
+        shareReplay(1)
+      );
+    }
+    return this.refreshInFlight;
+  }
+
   logout(): void {
+    const refreshToken = localStorage.getItem(this.REFRESH_TOKEN_KEY);
+    if (refreshToken) {
+      this.http.post(`${this.apiUrl}/logout`, { refreshToken }).subscribe({ error: () => {} });
+    }
     localStorage.removeItem(this.TOKEN_KEY);
+    localStorage.removeItem(this.REFRESH_TOKEN_KEY);
     localStorage.removeItem(this.USER_KEY);
     this.currentUserSubject.next(null);
     this.router.navigate(['/auth/login']);
@@ -53,6 +78,7 @@ export class AuthService {
 
   private handleAuthSuccess(response: AuthResponse): void {
     localStorage.setItem(this.TOKEN_KEY, response.token);
+    localStorage.setItem(this.REFRESH_TOKEN_KEY, response.refreshToken);
     localStorage.setItem(this.USER_KEY, JSON.stringify(response));
     this.currentUserSubject.next(response);
   }
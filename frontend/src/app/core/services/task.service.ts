@@ -1,8 +1,8 @@
 import { Injectable } from '@angular/core';
-import { HttpClient, HttpParams } from '@angular/common/http';
+import { HttpClient, HttpHeaders, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { environment } from '../../../environments/environment';
-import { Task, TaskRequest, TaskUpdateRequest, TaskStatus, Priority } from '../models/models';
+import { Task, TaskPage, TaskSearchPage, TaskRequest, TaskUpdateRequest, TaskStatus, Priority } from '../models/models';
 
 @Injectable({ providedIn: 'root' })
 export class TaskService {
@@ -10,12 +10,18 @@ export class TaskService {
 
   constructor(private http: HttpClient) {}
 
-  getByProject(projectId: number, status?: TaskStatus, priority?: Priority): Observable<Task[]> {
+  getByProject(projectId: number, status?: TaskStatus, priority?: Priority, cursor?: string): Observable<TaskPage> {
     let params = new HttpParams();
     if (status) params = params.set('status', status);
     if (priority) params = params.set('priority', priority);
+    if (cursor) params = params.set('cursor', cursor);
 
-    return this.http.get<Task[]>(`${this.apiUrl}/project/${projectId}`, { params });
+    return this.http.get<TaskPage>(`${this.apiUrl}/project/${projectId}`, { params });
+  }
+
+  search(q: string, page = 0): Observable<TaskSearchPage> {
+    const params = new HttpParams().set('q', q).set('page', page);
+    return this.http.get<TaskSearchPage>(`${this.apiUrl}/search`, { params });
   }
 
   getById(id: number): Observable<Task> {
@@ -26,8 +32,10 @@ export class TaskService {
     return this.http.post<Task>(this.apiUrl, request);
   }
 
-  update(id: number, request: TaskUpdateRequest): Observable<Task> {
-    return this.http.put<Task>(`${this.apiUrl}/${id}`, request);
+  /** With a version, the server rejects the update (412) if the task changed since it was loaded. */
+  update(id: number, request: TaskUpdateRequest, version?: number): Observable<Task> {
+    const headers = version === undefined ? undefined : new HttpHeaders({ 'If-Match': `"${version}"` });
+    return this.http.put<Task>(`${this.apiUrl}/${id}`, request, { headers });
   }
 
   delete(id: number): Observable<void> {
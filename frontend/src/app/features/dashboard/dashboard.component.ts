@@ -2,8 +2,13 @@ import { Component, OnInit } from '@angular/core';
 import { FormBuilder, FormGroup, Validators } from '@angular/forms';
 import { Router } from '@angular/router';
 import { ProjectService } from '../../core/services/project.service';
+import { TaskService } from '../../core/services/task.service';
 import { AuthService } from '../../core/services/auth.service';
-import { Project } from '../../core/models/models';
+import { Project, TaskSearchPage, TaskStatus } from '../../core/models/models';
+
+// Control characters the search endpoint wraps matched terms in (see TaskRepository).
+const HIGHLIGHT_START = '\u0002';
+const HIGHLIGHT_STOP = '\u0003';
 
 @Component({
   selector: 'app-dashboard',
@@ -17,9 +22,20 @@ export class DashboardComponent implements OnInit {
   createForm: FormGroup;
   creating = false;
   currentUser = this.authService.getCurrentUser();
+  searchQuery = '';
+  searchResults: TaskSearchPage | null = null;
+  searchedQuery = '';
+  searching = false;
+
+  statusLabels: Record<TaskStatus, string> = {
+    TODO: 'To Do',
+    IN_PROGRESS: 'In Progress',
+    DONE: 'Done'
+  };
 
   constructor(
     private projectService: ProjectService,
+    private taskService: TaskService,
     private authService: AuthService,
     private router: Router,
     private fb: FormBuilder
@@ -75,6 +91,44 @@ export class DashboardComponent implements OnInit {
     }
   }
 
+  search(page = 0): void {
+    // Further pages belong to the submitted query, not whatever is in the box now.
+    const q = page > 0 ? this.searchedQuery : this.searchQuery.trim();
+    if (!q) {
+      this.clearSearch();
+      return;
+    }
+    this.searchedQuery = q;
+    this.searching = true;
+    this.taskService.search(q, page).subscribe({
+      next: (results) => {
+        // Later pages are appended so "Load more" extends the list in place.
+        if (page > 0 && this.searchResults) {
+          results = { ...results, items: [...this.searchResults.items, ...results.items] };
+        }
+        this.searchResults = results;
+        this.searching = false;
+      },
+      error: () => this.searching = false
+    });
+  }
+
+  clearSearch(): void {
+    this.searchQuery = '';
+    this.searchedQuery = '';
+    this.searchResults = null;
+  }
+
+  highlight(text: string): string {
+    const escaped = text
+      .replace(/&/g, '&amp;')
+      .replace(/</g, '&lt;')
+      .replace(/>/g, '&gt;');
+    return escaped
+      .split(HIGHLIGHT_START).join('<mark>')
+      .split(HIGHLIGHT_STOP).join('</mark>');
+  }
+
   logout(): void {
     this.authService.logout();
   }
@@ -13,7 +13,9 @@ import { Project, Task, TaskStatus, Priority } from '../../../core/models/models
 export class ProjectDetailComponent implements OnInit {
   project: Project | null = null;
   tasks: Task[] = [];
+  nextCursor: string | null = null;
   loading = true;
+  loadingMore = false;
   projectId!: number;
 
   // Filters
@@ -81,14 +83,31 @@ export class ProjectDetailComponent implements OnInit {
     const priority = this.filterPriority || undefined;
 
     this.taskService.getByProject(this.projectId, status as TaskStatus, priority as Priority).subscribe({
-      next: (tasks) => {
-        this.tasks = tasks;
+      next: (page) => {
+        this.tasks = page.items;
+        this.nextCursor = page.nextCursor;
         this.loading = false;
       },
       error: () => this.loading = false
     });
   }
 
+  loadMoreTasks(): void {
+    if (!this.nextCursor) return;
+    const status = this.filterStatus || undefined;
+    const priority = this.filterPriority || undefined;
+
+    this.loadingMore = true;
+    this.taskService.getByProject(this.projectId, status as TaskStatus, priority as Priority, this.nextCursor).subscribe({
+      next: (page) => {
+        this.tasks = [...this.tasks, ...page.items];
+        this.nextCursor = page.nextCursor;
+        this.loadingMore = false;
+      },
+      error: () => this.loadingMore = false
+    });
+  }
+
   getTasksByStatus(status: TaskStatus): Task[] {
     return this.tasks.filter(t => t.status === status);
   }
@@ -122,14 +141,21 @@ export class ProjectDetailComponent implements OnInit {
     const formValue = this.taskForm.value;
 
     if (this.editingTask) {
-      this.taskService.update(this.editingTask.id, formValue).subscribe({
+      this.taskService.update(this.editingTask.id, formValue, this.editingTask.version).subscribe({
         next: (updated) => {
           const index = this.tasks.findIndex(t => t.id === updated.id);
           if (index >= 0) this.tasks[index] = updated;
           this.tasks = [...this.tasks];
           this.closeModal();
         },
-        error: () => this.savingTask = false
+        error: (err) => {
+          this.savingTask = false;
+          if (err.status === 412) {
+            alert('This task was changed elsewhere. The list has been reloaded; please review and try again.');
+            this.closeModal();
+            this.loadTasks();
+          }
+        }
       });
     } else {
       this.taskService.create({ ...formValue, projectId: this.projectId }).subscribe({